@@ -0,0 +1,36 @@
+package seedu.duke;
+
+import seedu.duke.tools.DataGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds in-memory storage lines for the benchmarks that do not need a full book on disk.
+ */
+final class BenchmarkData {
+    static final String[] POLICY_NAMES = {"Health", "Life", "Travel", "Home", "Motor"};
+
+    private BenchmarkData() {
+    }
+
+    static String clientLine(int index) {
+        return String.format("n/Client %d id/%s c/%d", index, DataGenerator.nric(index), 80000000 + index % 20000000);
+    }
+
+    static List<String> policyLines() {
+        List<String> lines = new ArrayList<>();
+        for (String name : POLICY_NAMES) {
+            lines.add("n/" + name + " d/" + name + " coverage");
+        }
+        return lines;
+    }
+
+    static List<String> clientLines(int clientCount) {
+        List<String> lines = new ArrayList<>(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            lines.add(clientLine(i));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.duke;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duke.client.Client;
+import seedu.duke.client.ClientList;
+import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.policy.PolicyList;
+import seedu.duke.tools.DataGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ClientList#findClientByNric(String)} on books of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientLookupBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int clientCount;
+
+    private ClientList clients;
+    private String[] nrics;
+    private int next;
+
+    @Setup
+    public void setUp() throws FinanceProPlusException {
+        PolicyList policies = new PolicyList();
+        policies.loadFromStorage(BenchmarkData.policyLines());
+        clients = new ClientList();
+        clients.loadFromStorage(BenchmarkData.clientLines(clientCount), policies);
+        nrics = new String[1024];
+        for (int i = 0; i < nrics.length; i++) {
+            nrics[i] = DataGenerator.nric((int) ((long) i * 7919 % clientCount));
+        }
+    }
+
+    @Benchmark
+    public Client findExistingClient() throws FinanceProPlusException {
+        next = (next + 1) & (nrics.length - 1);
+        return clients.findClientByNric(nrics[next]);
+    }
+
+    @Benchmark
+    public Client findMissingClient() throws FinanceProPlusException {
+        return clients.findClientByNric("T9999999Z");
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.duke;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duke.client.Client;
+import seedu.duke.command.Command;
+import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.parser.Parser;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of turning one line of input into arguments and commands.
+ * Parsing looks at a single line, so unlike the other benchmarks it does not depend on the size of the book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingBenchmark {
+    private final String clientDetails = "n/Jane Tan c/91234567 id/S1234567D";
+    private final String addPolicyInput = "client addpolicy id/S1234567D p/Health s/01-01-2024 e/31-12-2030 m/150.50";
+    private final String listInput = "list client";
+
+    @Benchmark
+    public Map<String, List<String>> parseClientDetails() {
+        return Client.parseClientDetails(clientDetails);
+    }
+
+    @Benchmark
+    public Command parseAddPolicyCommand() throws FinanceProPlusException {
+        return Parser.parse(addPolicyInput);
+    }
+
+    @Benchmark
+    public Command parseListCommand() throws FinanceProPlusException {
+        return Parser.parse(listInput);
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.duke;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duke.storage.StorageManager;
+import seedu.duke.tools.DataGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures {@link FinanceProPlus#saveAllData()} and {@link FinanceProPlus#loadFromFiles()} on books of different
+ * sizes. Each trial generates its book in a fresh temporary folder, so the working directory is left untouched.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StorageBenchmark {
+    private static final long SEED = 42L;
+
+    @Param({"1000", "10000", "100000"})
+    public int clientCount;
+
+    private Path root;
+    private StorageManager storage;
+    private FinanceProPlus app;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("financeproplus-bench");
+        storage = new StorageManager(root.toString());
+        new DataGenerator(SEED, clientCount).generate(storage);
+        app = new FinanceProPlus(storage);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void saveAllData() {
+        app.saveAllData();
+    }
+
+    @Benchmark
+    public FinanceProPlus loadFromFiles() {
+        return new FinanceProPlus(storage);
+    }
+}
@@ -6,19 +6,43 @@ import seedu.duke.client.ClientList;
 import seedu.duke.command.Command;
 import seedu.duke.container.LookUpTable;
 import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.history.History;
 import seedu.duke.logger.LoggerConfig;
 import seedu.duke.meeting.MeetingList;
+import seedu.duke.metrics.CommandEvent;
+import seedu.duke.metrics.CommandMetrics;
+import seedu.duke.metrics.CommandMetrics.Phase;
+import seedu.duke.metrics.StartupTimeline;
+import seedu.duke.metrics.StorageStats;
 import seedu.duke.parser.Parser;
 import seedu.duke.policy.PolicyList;
+import seedu.duke.reminder.ReminderScheduler;
+import seedu.duke.server.SessionServer;
 import seedu.duke.task.TaskList;
 import seedu.duke.user.UserList;
 import seedu.duke.ui.Ui;
+import seedu.duke.storage.SaveBatch;
 import seedu.duke.storage.StorageManager;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 public class FinanceProPlus {
+    private static final String SERVE_FLAG = "--serve";
+    private static final String METRICS_FILE_PROPERTY = "financeproplus.metrics.file";
+    private static final String STARTUP_REPORT_FLAG = "--startup-report";
+    private static final String USAGE = "Usage: java -jar FinanceProPlus.jar [--startup-report] [--serve <PORT>]";
+    private static final String ARCHIVE_INDEX_FILE = "archived_clients.txt";
+    private static final String ARCHIVE_COLD_FILE = "archived_clients.cold";
+    private static final String ARCHIVE_COMPACT_INDEX_FILE = "archived_clients.compact.txt";
+    private static final String ARCHIVE_COMPACT_COLD_FILE = "archived_clients.cold.compact";
+    private static final int CLIENTS_PER_WRITE = 512;
     private static boolean runLoop;
     private static final Logger logger = Logger.getLogger(FinanceProPlus.class.getName());
     private Ui ui;
@@ -28,55 +52,200 @@ public class FinanceProPlus {
     private ClientList clients;
     private TaskList tasks;
     private ArchivedClientList archivedClients;
+    private boolean isArchiveLoaded;
     private LookUpTable lookUpTable;
     private UserList user;
+    private final ReentrantLock bookLock = new ReentrantLock();
+    private final Set<History> sessionHistories = ConcurrentHashMap.newKeySet();
+    private final StartupTimeline startupTimeline;
 
     public FinanceProPlus() {
+        this(StorageManager::new);
+    }
+
+    /**
+     * Creates the application on top of the given storage and loads its data.
+     *
+     * @param storage The storage to load from and save to.
+     */
+    public FinanceProPlus(StorageManager storage) {
+        this(() -> storage);
+    }
+
+    private FinanceProPlus(Supplier<StorageManager> storageFactory) {
+        startupTimeline = new StartupTimeline();
+        long phaseStart = startupTimeline.getStartNanos();
         ui = new Ui();
         runLoop = true;
-        storage = new StorageManager();
+        this.storage = storageFactory.get();
+        phaseStart = startupTimeline.record("create data folders", phaseStart);
+        LoggerConfig.setup();
+        phaseStart = startupTimeline.record("set up logging", phaseStart);
         meetings = new MeetingList();
         policies = new PolicyList();
         clients = new ClientList();
         tasks = new TaskList();
         user = new UserList();
-        archivedClients = new ArchivedClientList();
-        LoggerConfig.setup();
+        archivedClients = new ArchivedClientList(storage.openRecordFile(ARCHIVE_COLD_FILE), policies);
         lookUpTable = new LookUpTable(clients, policies, meetings, tasks, user, archivedClients);
+        sessionHistories.add(lookUpTable.getHistory());
+        startupTimeline.record("create containers", phaseStart);
         loadFromFiles();
+        logger.info(() -> String.format("Startup took %.1f ms.", startupTimeline.getTotal() / 1_000_000.0));
     }
 
-    private void loadFromFiles() {
+    void loadFromFiles() {
+        StartupTimeline timeline = startupTimeline;
+        long phaseStart = System.nanoTime();
         try {
-            policies.loadFromStorage(storage.loadFromFile("policy.txt"));
-            clients.loadFromStorage(storage.loadFromFile("client.txt"), policies);
-            user.loadFromStorage(storage.loadFromFile("user.txt"));
-            meetings.loadFromStorage(storage.loadFromFile("meeting.txt"));
-            archivedClients.loadFromStorage(storage.loadFromFile("archived_clients.txt"), policies);
+            List<String> lines = storage.loadFromFile("policy.txt");
+            phaseStart = timeline.record("read policy.txt", phaseStart);
+            policies.loadFromStorage(lines);
+            phaseStart = timeline.record("parse policies", phaseStart);
+            lines = storage.loadFromFile("client.txt");
+            phaseStart = timeline.record("read client.txt", phaseStart);
+            clients.loadFromStorage(lines, policies);
+            phaseStart = timeline.record("parse clients and build NRIC index", phaseStart);
+            lines = storage.loadFromFile("user.txt");
+            phaseStart = timeline.record("read user.txt", phaseStart);
+            user.loadFromStorage(lines);
+            phaseStart = timeline.record("parse user", phaseStart);
+            lines = storage.loadFromFile("meeting.txt");
+            phaseStart = timeline.record("read meeting.txt", phaseStart);
+            meetings.loadFromStorage(lines);
+            phaseStart = timeline.record("parse meetings", phaseStart);
             for (Client c : clients.getClientList()) {
-                try {
-                    List<String> taskLines = storage.loadClientTasks(c.getNric());
-                    c.getTodoList().loadFromStorage(taskLines);
-                    try {
-                        List<String> policyLines = storage.loadClientPolicies(c.getNric());
-                        for (String line : policyLines) {
-                            clients.addPolicyToClientSilent("id/"+c.getNric()+" " +line, policies);
-                        }
-                    } catch (Exception ex) {
-                        logger.warning("Failed to load policy details for client "
-                                + c.getNric() + ": " + ex.getMessage());
-                    }
-                } catch (Exception ex) {
-                    logger.warning("Failed to load data for client " + c.getNric() + ": " + ex.getMessage());
-                }
+                phaseStart = hydrateClient(c, timeline, phaseStart);
             }
-            tasks.loadFromStorage(storage.loadFromFile("task.txt"));
+            lines = storage.loadFromFile("task.txt");
+            phaseStart = timeline.record("read task.txt", phaseStart);
+            tasks.loadFromStorage(lines);
+            timeline.record("parse tasks", phaseStart);
             logger.info("Data loaded successfully.");
         } catch (Exception e) {
-            logger.info("Some data failed to load: " + e.getMessage());
+            logger.info(() -> "Some data failed to load: " + e.getMessage());
+        }
+        loadArchivedClients(timeline);
+    }
+
+    /**
+     * Loads the archived clients after the active ones, so a damaged archive cannot keep the active clients'
+     * contracts and to-dos from loading. If the archive fails to load as a whole, it is not saved again in this
+     * run, so its index is not overwritten with what little was loaded.
+     */
+    private void loadArchivedClients(StartupTimeline timeline) {
+        long phaseStart = System.nanoTime();
+        try {
+            finishArchiveCompaction();
+            List<String> lines = storage.loadFromFile(ARCHIVE_INDEX_FILE);
+            phaseStart = timeline.record("read archived_clients.txt", phaseStart);
+            archivedClients.loadFromStorage(lines, policies);
+            phaseStart = timeline.record("parse archived clients", phaseStart);
+            isArchiveLoaded = true;
+        } catch (Exception e) {
+            logger.warning(() -> "Archived clients failed to load and will not be saved: " + e.getMessage());
+            return;
+        }
+        if (archivedClients.shouldCompact()) {
+            compactArchive();
+            timeline.record("compact archived clients", phaseStart);
         }
     }
 
+    /**
+     * Rewrites the cold archive file with only the records the archived clients point to.
+     * This runs at startup, before any command, so no undo entry can point to a record that is dropped.
+     * The new cold file and index are written under temporary names and then moved into place, the cold file
+     * first; {@link #finishArchiveCompaction()} completes or discards a compaction that was interrupted.
+     */
+    private void compactArchive() {
+        long sizeBefore = storage.openRecordFile(ARCHIVE_COLD_FILE).size();
+        List<String> lines = null;
+        boolean isColdFileReplaced = false;
+        try {
+            lines = archivedClients.compactInto(storage.openRecordFile(ARCHIVE_COMPACT_COLD_FILE));
+            storage.saveToFile(ARCHIVE_COMPACT_INDEX_FILE, lines);
+            storage.moveFile(ARCHIVE_COMPACT_COLD_FILE, ARCHIVE_COLD_FILE);
+            isColdFileReplaced = true;
+            storage.moveFile(ARCHIVE_COMPACT_INDEX_FILE, ARCHIVE_INDEX_FILE);
+        } catch (IOException e) {
+            if (!isColdFileReplaced) {
+                logger.warning(() -> "Could not compact the archived clients: " + e.getMessage());
+                discardArchiveCompaction();
+                return;
+            }
+            isArchiveLoaded = false;
+            logger.warning(() -> "Archived clients will not be saved until their compaction is finished at the "
+                    + "next start: " + e.getMessage());
+        }
+        archivedClients.reload(lines);
+        logger.info(() -> "Compacted the archived clients from " + sizeBefore + " to "
+                + storage.openRecordFile(ARCHIVE_COLD_FILE).size() + " bytes");
+    }
+
+    /**
+     * Completes a compaction of the archived clients that was interrupted after its new index was written, or
+     * discards the new cold file of one that was interrupted before.
+     */
+    private void finishArchiveCompaction() throws IOException {
+        if (!storage.hasFile(ARCHIVE_COMPACT_INDEX_FILE)) {
+            storage.deleteFile(ARCHIVE_COMPACT_COLD_FILE);
+            return;
+        }
+        if (storage.hasFile(ARCHIVE_COMPACT_COLD_FILE)) {
+            storage.moveFile(ARCHIVE_COMPACT_COLD_FILE, ARCHIVE_COLD_FILE);
+        }
+        storage.moveFile(ARCHIVE_COMPACT_INDEX_FILE, ARCHIVE_INDEX_FILE);
+        logger.info("Finished an interrupted compaction of the archived clients");
+    }
+
+    private void discardArchiveCompaction() {
+        try {
+            storage.deleteFile(ARCHIVE_COMPACT_INDEX_FILE);
+            storage.deleteFile(ARCHIVE_COMPACT_COLD_FILE);
+        } catch (IOException e) {
+            logger.warning(() -> "Could not delete the files of a failed compaction: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the to-dos and policy contracts of one client.
+     *
+     * @return The time the last recorded phase ended.
+     */
+    private long hydrateClient(Client c, StartupTimeline timeline, long phaseStart) {
+        try {
+            List<String> taskLines = storage.loadClientTasks(c.getNric());
+            phaseStart = timeline.record("read client_tasks/*", phaseStart);
+            if (!taskLines.isEmpty()) {
+                c.getTodoList().loadFromStorage(taskLines);
+            }
+            phaseStart = timeline.record("parse client to-dos", phaseStart);
+            try {
+                List<String> policyLines = storage.loadClientPolicies(c.getNric());
+                phaseStart = timeline.record("read client_policies/*", phaseStart);
+                for (String line : policyLines) {
+                    clients.addPolicyToClientSilent("id/"+c.getNric()+" " +line, policies);
+                }
+                phaseStart = timeline.record("attach client policies", phaseStart);
+            } catch (Exception ex) {
+                logger.warning(() -> "Failed to load policy details for client "
+                        + c.getNric() + ": " + ex.getMessage());
+            }
+        } catch (Exception ex) {
+            logger.warning(() -> "Failed to load data for client " + c.getNric() + ": " + ex.getMessage());
+        }
+        return phaseStart;
+    }
+
+    LookUpTable getLookUpTable() {
+        return lookUpTable;
+    }
+
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
     public static void terminate() {
         runLoop = false;
     }
@@ -85,62 +254,295 @@ public class FinanceProPlus {
         ui.printWelcomeMessage();
 
         while (this.runLoop) {
-            try {
-                String unprocessedInput = ui.readCommand();
-                if (unprocessedInput.equalsIgnoreCase("exit")) {
-                    this.terminate();
-                    continue;
-                }
-                Command c = Parser.parse(unprocessedInput.trim());
-                assert c != null : "Command should not be null";
-                c.execute(lookUpTable);
-                c.printExecutionMessage();
-
-            } catch (FinanceProPlusException e) {
-                System.out.println(e.getMessage());
-            } catch (Exception e) {
-                System.out.println("An unexpected error occurred: " + e.getMessage());
-                e.printStackTrace();
+            ReminderScheduler reminders = ReminderScheduler.getInstance();
+            if (reminders != null) {
+                List<String> due = reminders.takeDue(Ui.MAX_PRINTED_REMINDERS);
+                ui.printReminders(due, reminders.getDueCount());
             }
-            saveAllData();
+            String unprocessedInput = ui.readCommand();
+            if (unprocessedInput.equalsIgnoreCase("exit")) {
+                this.terminate();
+                continue;
+            }
+            processCommand(unprocessedInput);
         }
 
+        endSession();
+        logger.info(StorageStats::summary);
         ui.closeScanner();
         ui.printGoodbyeMessage();
 
     }
 
-    private void saveAllData() {
+    /**
+     * Starts a session with its own undo and redo stacks and its own transaction, e.g. for a server connection.
+     *
+     * @return The history to pass to {@link #processCommand(String, History)} and {@link #endSession(History)}.
+     */
+    public History openSession() {
+        History history = new History();
+        sessionHistories.add(history);
+        return history;
+    }
+
+    /**
+     * Parses and executes one line of input of the console session.
+     *
+     * @param unprocessedInput The raw line entered by the user.
+     */
+    public void processCommand(String unprocessedInput) {
+        processCommand(unprocessedInput, lookUpTable.getHistory());
+    }
+
+    /**
+     * Parses and executes one line of input, then saves all data unless a transaction is open.
+     * Only one command runs against the data at a time. While a transaction is open, the calling thread
+     * keeps the lock between commands, so other sessions wait until it commits or rolls back.
+     * A command that changes the data discards what the other sessions could undo or redo.
+     *
+     * @param unprocessedInput The raw line entered by the user.
+     * @param history          The history of the session the input comes from.
+     */
+    public void processCommand(String unprocessedInput, History history) {
+        Command c;
+        CommandEvent parseEvent = CommandEvent.start(Phase.PARSE);
+        long phaseStart = System.nanoTime();
         try {
-            storage.saveToFile("user.txt", user.toStorageFormat());
-            storage.exportToCSV("user.csv", user.toCSVFormat());
-            storage.saveToFile("client.txt", clients.toStorageFormat());
-            storage.exportToCSV("client.csv", clients.toCSVFormat());
-            storage.saveToFile("policy.txt", policies.toStorageFormat());
-            storage.exportToCSV("policy.csv", policies.toCSVFormat());
-            storage.saveToFile("meeting.txt", meetings.toStorageFormat());
-            storage.exportToCSV("meeting.csv", meetings.toCSVFormat());
-            storage.saveToFile("archived_clients.txt", archivedClients.toStorageFormat());
-            storage.exportToCSV("archived_clients.csv", archivedClients.toCSVFormat());
-            storage.saveToFile("task.txt", tasks.toStorageFormat());
-            storage.exportToCSV("task.csv", tasks.toCSVFormat());
-            for (Client c : clients.getClientList()) {
-                try {
-                    storage.saveClientTasks(c.getNric(), c.getTodoList().toStorageFormat());
-                    storage.saveClientPolicies(c.getNric(), c.getPolicyList().toStorageFormat());
-                } catch (Exception ex) {
-                    logger.warning("Failed to save data for client " + c.getNric() + ": " + ex.getMessage());
+            c = Parser.parse(unprocessedInput.trim());
+            assert c != null : "Command should not be null";
+        } catch (FinanceProPlusException e) {
+            CommandMetrics.record(CommandMetrics.INVALID_COMMAND, Phase.PARSE, System.nanoTime() - phaseStart);
+            parseEvent.finish(null);
+            System.out.println(e.getMessage());
+            return;
+        }
+        String label = c.getLabel();
+        CommandMetrics.record(label, Phase.PARSE, System.nanoTime() - phaseStart);
+        parseEvent.finish(c);
+
+        bookLock.lock();
+        long changeCountBefore = history.getChangeCount();
+        boolean hasSucceeded = false;
+        try {
+            history.beginCommand();
+            CommandEvent executeEvent = CommandEvent.start(Phase.EXECUTE);
+            phaseStart = System.nanoTime();
+            c.execute(lookUpTable.withHistory(history));
+            CommandMetrics.record(label, Phase.EXECUTE, System.nanoTime() - phaseStart);
+            executeEvent.finish(c);
+            hasSucceeded = true;
+            c.printExecutionMessage();
+        } catch (FinanceProPlusException e) {
+            System.out.println(e.getMessage());
+        } catch (Exception e) {
+            System.out.println("An unexpected error occurred: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            history.endCommand(hasSucceeded);
+            if (history.getChangeCount() != changeCountBefore) {
+                discardUndoableOfOthers(history);
+            }
+            if (!history.isInTransaction()) {
+                phaseStart = System.nanoTime();
+                saveAllData();
+                CommandMetrics.record(label, Phase.SAVE, System.nanoTime() - phaseStart);
+            } else {
+                StorageStats.recordSkippedSave();
+            }
+            releaseBookLock(history);
+        }
+    }
+
+    private void discardUndoableOfOthers(History history) {
+        for (History other : sessionHistories) {
+            if (other != history) {
+                other.discardUndoable();
+            }
+        }
+    }
+
+    /**
+     * Ends the console session.
+     */
+    public void endSession() {
+        endSession(lookUpTable.getHistory());
+    }
+
+    /**
+     * Ends the session running on the calling thread.
+     * A transaction left open by that session is rolled back and the lock it held is released, and what it could
+     * undo or redo is discarded.
+     *
+     * @param history The history of the session.
+     */
+    public void endSession(History history) {
+        if (abandonTransaction(history)) {
+            System.out.println("The open transaction was not committed. Its changes have been discarded.");
+        }
+        if (history != lookUpTable.getHistory()) {
+            sessionHistories.remove(history);
+            bookLock.lock();
+            try {
+                history.discardUndoable();
+            } finally {
+                bookLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Rolls back the transaction the session on the calling thread has open, if any, and releases the lock it
+     * held, e.g. when the session has been idle for too long.
+     *
+     * @param history The history of the session.
+     * @return Whether a transaction was rolled back.
+     */
+    public boolean abandonTransaction(History history) {
+        boolean hasRolledBack = false;
+        if (bookLock.isHeldByCurrentThread() && history.isInTransaction()) {
+            try {
+                history.rollback();
+                discardUndoableOfOthers(history);
+                saveAllData();
+            } catch (FinanceProPlusException e) {
+                logger.warning(() -> "Failed to roll back the open transaction: " + e.getMessage());
+            }
+            hasRolledBack = true;
+        }
+        while (bookLock.isHeldByCurrentThread()) {
+            bookLock.unlock();
+        }
+        return hasRolledBack;
+    }
+
+    private void releaseBookLock(History history) {
+        int holdsToKeep = history.isInTransaction() ? 1 : 0;
+        while (bookLock.getHoldCount() > holdsToKeep) {
+            bookLock.unlock();
+        }
+    }
+
+    /**
+     * Saves every data file and CSV export, writing independent files at the same time on the writers of a
+     * {@link SaveBatch}. Per-client files are written in groups of {@value #CLIENTS_PER_WRITE} clients. Returns once
+     * every file has been written; failures are logged together.
+     */
+    void saveAllData() {
+        SaveBatch batch = new SaveBatch();
+        batch.submit("user.txt", () -> storage.saveToFile("user.txt", user.toStorageFormat()));
+        batch.submit("user.csv", () -> storage.exportToCSV("user.csv", user.toCSVFormat()));
+        batch.submit("client.txt", () -> storage.saveToFile("client.txt", clients.toStorageFormat()));
+        batch.submit("client.csv", () -> storage.exportToCSV("client.csv", clients.toCSVFormat()));
+        batch.submit("policy.txt", () -> storage.saveToFile("policy.txt", policies.toStorageFormat()));
+        batch.submit("policy.csv", () -> storage.exportToCSV("policy.csv", policies.toCSVFormat()));
+        batch.submit("meeting.txt", () -> storage.saveToFile("meeting.txt", meetings.toStorageFormat()));
+        batch.submit("meeting.csv", () -> storage.exportToCSV("meeting.csv", meetings.toCSVFormat()));
+        if (isArchiveLoaded && archivedClients.hasUnsavedChanges()) {
+            batch.submit(ARCHIVE_INDEX_FILE, () -> {
+                storage.saveToFile(ARCHIVE_INDEX_FILE, archivedClients.toStorageFormat());
+                storage.exportToCSV("archived_clients.csv", archivedClients.toCSVFormat());
+                archivedClients.markSaved();
+            });
+        }
+        batch.submit("task.txt", () -> storage.saveToFile("task.txt", tasks.toStorageFormat()));
+        batch.submit("task.csv", () -> storage.exportToCSV("task.csv", tasks.toCSVFormat()));
+        List<Client> clientSnapshot = clients.getClientList();
+        for (int from = 0; from < clientSnapshot.size(); from += CLIENTS_PER_WRITE) {
+            List<Client> group = clientSnapshot.subList(from, Math.min(from + CLIENTS_PER_WRITE,
+                    clientSnapshot.size()));
+            batch.submit("files of clients " + (from + 1) + " to " + (from + group.size()),
+                    () -> saveClientFiles(group));
+        }
+        try {
+            batch.awaitAll();
+        } catch (IOException e) {
+            logger.warning(() -> "Error saving data: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Saves the to-do and contract files of each client, going on with the next client if one fails.
+     *
+     * @throws IOException If any client's files could not be saved, naming the first such client.
+     */
+    private void saveClientFiles(List<Client> group) throws IOException {
+        IOException firstFailure = null;
+        int failureCount = 0;
+        for (Client c : group) {
+            try {
+                storage.saveClientTasks(c.getNric(), c.todosToStorageFormat());
+                storage.saveClientPolicies(c.getNric(), c.policiesToStorageFormat());
+            } catch (IOException | RuntimeException e) {
+                failureCount++;
+                if (firstFailure == null) {
+                    firstFailure = new IOException("client " + c.getNric() + ": " + e.getMessage(), e);
                 }
             }
-        } catch (Exception e) {
-            logger.info("Error saving data: " + e.getMessage());
+        }
+        if (firstFailure != null) {
+            throw failureCount == 1 ? firstFailure : new IOException(failureCount + " clients failed, first "
+                    + firstFailure.getMessage(), firstFailure);
         }
     }
 
+    /**
+     * Writes the command metrics to the file named by {@value #METRICS_FILE_PROPERTY} when the JVM exits,
+     * if that property is set.
+     */
+    private static void dumpMetricsOnExit() {
+        String metricsFile = System.getProperty(METRICS_FILE_PROPERTY);
+        if (metricsFile == null || metricsFile.isBlank()) {
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                CommandMetrics.dumpTo(Path.of(metricsFile));
+            } catch (IOException e) {
+                System.err.println("Could not write metrics to " + metricsFile + ": " + e.getMessage());
+            }
+        }));
+    }
+
     /**
      * Main entry-point for the java.duke.Duke application.
      */
     public static void main(String[] args) {
-        new FinanceProPlus().run();
+        dumpMetricsOnExit();
+        boolean isStartupReportRequested = false;
+        Integer port = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(STARTUP_REPORT_FLAG)) {
+                isStartupReportRequested = true;
+            } else if (args[i].equals(SERVE_FLAG) && i + 1 < args.length && port == null) {
+                try {
+                    port = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    System.out.println("Invalid port: " + args[i] + "\n" + USAGE);
+                    return;
+                }
+            } else {
+                System.out.println(USAGE);
+                return;
+            }
+        }
+
+        if (port == null && ReminderScheduler.isEnabled()) {
+            ReminderScheduler.start();
+        }
+        FinanceProPlus app = new FinanceProPlus();
+        if (isStartupReportRequested) {
+            for (String line : app.getStartupTimeline().report()) {
+                System.out.println(line);
+            }
+        }
+        if (port == null) {
+            app.run();
+            return;
+        }
+        try {
+            new SessionServer(app, port).serve();
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not start the server: " + e.getMessage());
+        }
     }
 }
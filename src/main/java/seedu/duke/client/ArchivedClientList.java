@@ -2,61 +2,315 @@ package seedu.duke.client;
 
 import seedu.duke.container.ListContainer;
 import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.history.Change;
+import seedu.duke.history.ChangeJournal;
+import seedu.duke.policy.ClientPolicy;
+import seedu.duke.policy.PolicyList;
+import seedu.duke.storage.CompressedRecordFile;
+import seedu.duke.storage.CompressedRecordFile.Location;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
 
+/**
+ * Represents the list of archived clients.
+ * Like {@link ClientList}, all access goes through a read-write lock.
+ *
+ * <p>With a cold file, archiving a client appends the client, its contracts and its to-dos to that file as one
+ * compressed record. Only what the list and the CSV export show (the NRIC, name, contact, policy names and to-do
+ * count) and the record's location are kept in memory and in the index file, so neither reads the cold file.
+ * The client is read back and rebuilt when it is restored. Without a cold file, archived clients are kept in
+ * memory as they are.
+ */
 public class ArchivedClientList implements ListContainer {
-    private ArrayList<Client> archivedClients;
+    private static final Logger logger = Logger.getLogger(ArchivedClientList.class.getName());
+    private static final String INDEX_FORMAT = "id/%s n/%s c/%s o/%d l/%d t/%d";
+    /** Cold files smaller than this are not compacted, whatever share of them is no longer used. */
+    private static final long MIN_COMPACTED_BYTES = 64 * 1024;
+    private final ArrayList<Entry> archivedClients;
+    private final ReentrantReadWriteLock lock;
+    private final CompressedRecordFile coldFile;
+    private final PolicyList catalog;
+    private final List<String> unreadableLines = new ArrayList<>();
+    private boolean hasUnsavedChanges = true;
 
+    /**
+     * One archived client: either the client itself or where its record is in the cold file.
+     */
+    private static class Entry {
+        private final String nric;
+        private final String name;
+        private final String contact;
+        private final List<String> policyNames;
+        private final int todoCount;
+        private final Client client;
+        private final Location location;
+
+        Entry(Client client) {
+            this.nric = client.getNric();
+            this.name = client.getName();
+            this.contact = null;
+            this.policyNames = null;
+            this.todoCount = 0;
+            this.client = client;
+            this.location = null;
+        }
+
+        Entry(Client client, Location location) {
+            this(client.getNric(), client.getName(), client.getContact(), client.getPolicyNames(),
+                    client.getTodoCount(), location);
+        }
+
+        Entry(String nric, String name, String contact, List<String> policyNames, int todoCount,
+                Location location) {
+            this.nric = nric;
+            this.name = name;
+            this.contact = contact;
+            this.policyNames = List.copyOf(policyNames);
+            this.todoCount = todoCount;
+            this.client = null;
+            this.location = location;
+        }
+
+        boolean isCold() {
+            return location != null;
+        }
+
+        /**
+         * Counts a hold on the client kept in memory, if any. A client in the cold file is rebuilt when restored.
+         */
+        void retain() {
+            if (client != null) {
+                client.retain();
+            }
+        }
+
+        void release() {
+            if (client != null) {
+                client.release();
+            }
+        }
+
+        Entry movedTo(Location newLocation) {
+            return new Entry(nric, name, contact, policyNames, todoCount, newLocation);
+        }
+
+        /**
+         * Returns the name, contact, NRIC, policy names, contract count and to-do count of the client.
+         */
+        String[] describe() {
+            if (!isCold()) {
+                String[] csvRow = client.toCSVRow();
+                return new String[]{csvRow[0], csvRow[1], csvRow[2], csvRow[3],
+                    String.valueOf(client.getPolicyCount()), String.valueOf(client.getTodoCount())};
+            }
+            String[] csvRow = Client.toCSVRow(name, contact, nric, policyNames);
+            return new String[]{csvRow[0], csvRow[1], csvRow[2], csvRow[3], String.valueOf(policyNames.size()),
+                String.valueOf(todoCount)};
+        }
+
+        String toStorageString() {
+            if (!isCold()) {
+                return client.toStorageString();
+            }
+            StringBuilder line = new StringBuilder(String.format(INDEX_FORMAT, nric, name, contact,
+                    location.getOffset(), location.getLength(), todoCount));
+            for (String policyName : policyNames) {
+                line.append(" p/").append(policyName);
+            }
+            return line.toString();
+        }
+    }
+
+    /**
+     * Creates a list that keeps archived clients in memory.
+     */
     public ArchivedClientList() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a list that moves archived clients to the given cold file.
+     *
+     * @param coldFile The file to append archived clients to, or null to keep them in memory.
+     * @param catalog  The catalog to look up the contracts of restored clients in.
+     */
+    public ArchivedClientList(CompressedRecordFile coldFile, PolicyList catalog) {
+        assert coldFile == null || catalog != null : "A cold archive needs the catalog to restore contracts";
         this.archivedClients = new ArrayList<>();
+        this.lock = new ReentrantReadWriteLock();
+        this.coldFile = coldFile;
+        this.catalog = catalog;
         assert archivedClients != null : "Archived clients list should be initialised properly";
     }
 
     /**
      * Archives a client by adding them to the archived list.
+     * With a cold file, the client's record is appended to it right away.
      *
      * @param client The client to archive.
+     * @throws FinanceProPlusException If the client cannot be written to the cold file.
      */
-    public void archiveClient(Client client) {
+    public void archiveClient(Client client) throws FinanceProPlusException {
         assert client != null : "Client to archive cannot be null";
-        int oldSize = archivedClients.size();
-        archivedClients.add(client);
-        assert archivedClients.size() == oldSize + 1 :
-                "Archived clients list size should increase by 1 after archiving a client";
-        System.out.println("Noted. I've archived this client:");
-        System.out.println(client);
+        lock.writeLock().lock();
+        try {
+            Entry entry = coldFile == null ? new Entry(client) : moveToColdFile(client);
+            int oldSize = archivedClients.size();
+            insertAt(oldSize, entry);
+            assert archivedClients.size() == oldSize + 1 :
+                    "Archived clients list size should increase by 1 after archiving a client";
+            entry.retain();
+            ChangeJournal.record(Change.of(() -> removeAt(oldSize), () -> insertAt(oldSize, entry), entry::release));
+            System.out.println("Noted. I've archived this client:");
+            System.out.println(client);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Entry moveToColdFile(Client client) throws FinanceProPlusException {
+        List<String> record = new ArrayList<>();
+        record.add(client.toStorageString());
+        List<String> contracts = client.policiesToStorageFormat();
+        record.add(String.valueOf(contracts.size()));
+        record.addAll(contracts);
+        record.addAll(client.todosToStorageFormat());
+        try {
+            Location location = coldFile.append(List.of(record)).get(0);
+            return new Entry(client, location);
+        } catch (IOException e) {
+            throw new FinanceProPlusException("Could not archive the client: " + e.getMessage());
+        }
     }
 
     /**
      * Restores a client from the archived list by removing them at the specified index.
+     * A client in the cold file is read back with its contracts and to-dos; contracts whose policy is no longer
+     * in the catalog are skipped with a message.
      *
      * @param index The index of the client to restore.
      * @return The restored client.
-     * @throws FinanceProPlusException If the index is invalid.
+     * @throws FinanceProPlusException If the index is invalid or the client cannot be read back.
      */
     public Client restoreClient(int index) throws FinanceProPlusException {
-        if (index < 0 || index >= archivedClients.size()) {
-            throw new FinanceProPlusException("Invalid index. Please provide a valid archived client index.");
+        lock.writeLock().lock();
+        try {
+            if (index < 0 || index >= archivedClients.size()) {
+                throw new FinanceProPlusException("Invalid index. Please provide a valid archived client index.");
+            }
+            Entry entry = archivedClients.get(index);
+            Client restoredClient = entry.isCold() ? rebuild(readRecords(List.of(entry)).get(0)) : entry.client;
+            int oldSize = archivedClients.size();
+            entry.retain();
+            removeAt(index);
+            assert archivedClients.size() == oldSize - 1 :
+                    "Archived clients list size should decrease by 1 after restoring a client";
+            ChangeJournal.record(Change.of(() -> insertAt(index, entry), () -> removeAt(index), entry::release));
+            return restoredClient;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Client rebuild(List<String> record) throws FinanceProPlusException {
+        Client client = new Client(record.get(0), catalog);
+        int contractCount = Integer.parseInt(record.get(1));
+        List<ClientPolicy> contracts = new ArrayList<>();
+        for (String line : record.subList(2, 2 + contractCount)) {
+            try {
+                contracts.add(ClientList.parseContract(line, catalog));
+            } catch (FinanceProPlusException e) {
+                System.out.println("Skipped contract '" + line + "': " + e.getMessage());
+            }
+        }
+        ChangeJournal.runUnrecorded(() -> contracts.forEach(client.getPolicyList()::addPolicy));
+        List<String> todos = record.subList(2 + contractCount, record.size());
+        if (!todos.isEmpty()) {
+            client.getTodoList().loadFromStorage(todos);
+        }
+        return client;
+    }
+
+    private List<List<String>> readRecords(List<Entry> entries) throws FinanceProPlusException {
+        List<Location> locations = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            locations.add(entry.location);
+        }
+        try {
+            return coldFile.readAll(locations);
+        } catch (IOException e) {
+            throw new FinanceProPlusException("Could not read archived clients: " + e.getMessage());
+        }
+    }
+
+    private void insertAt(int index, Entry entry) {
+        lock.writeLock().lock();
+        try {
+            archivedClients.add(index, entry);
+            entry.retain();
+            hasUnsavedChanges = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Entry removeAt(int index) {
+        lock.writeLock().lock();
+        try {
+            hasUnsavedChanges = true;
+            Entry entry = archivedClients.remove(index);
+            entry.release();
+            return entry;
+        } finally {
+            lock.writeLock().unlock();
         }
-        int oldSize = archivedClients.size();
-        Client restoredClient = archivedClients.remove(index);
-        assert archivedClients.size() == oldSize - 1 :
-                "Archived clients list size should decrease by 1 after restoring a client";
-        return restoredClient;
     }
 
     @Override
-    public void listItems() {
-        if (archivedClients.isEmpty()) {
-            System.out.println("No archived clients found.");
-        } else {
-            System.out.println("Here are the archived clients:");
-            for (int i = 0; i < archivedClients.size(); i++) {
-                System.out.println((i + 1) + ". " + archivedClients.get(i).toString());
+    public void listItems() throws FinanceProPlusException {
+        lock.readLock().lock();
+        try {
+            if (archivedClients.isEmpty()) {
+                System.out.println("No archived clients found.");
+            } else {
+                System.out.println("Here are the archived clients:");
+                List<String> summaries = summarize();
+                for (int i = 0; i < summaries.size(); i++) {
+                    System.out.println((i + 1) + ". " + summaries.get(i));
+                }
             }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the one-line summary of every archived client, without reading the cold file.
+     */
+    private List<String> summarize() {
+        List<String> summaries = new ArrayList<>();
+        for (String[] row : describeAll()) {
+            summaries.add(Client.describe(row[0], row[2], row[1], Integer.parseInt(row[4]),
+                    Integer.parseInt(row[5])));
         }
+        return summaries;
+    }
+
+    /**
+     * Returns the name, contact, NRIC, policy names, contract count and to-do count of every archived client.
+     */
+    private List<String[]> describeAll() {
+        List<String[]> rows = new ArrayList<>();
+        for (Entry entry : archivedClients) {
+            rows.add(entry.describe());
+        }
+        return rows;
     }
 
     @Override
@@ -79,7 +333,7 @@ public class ArchivedClientList implements ListContainer {
         int index;
         try {
             index = Integer.parseInt(arguments) - 1;
-            if (index < 0 || index >= archivedClients.size()) {
+            if (index < 0 || index >= size()) {
                 throw new FinanceProPlusException("Invalid index. Please provide a valid archived client index.");
             }
         } catch (NumberFormatException e) {
@@ -88,51 +342,351 @@ public class ArchivedClientList implements ListContainer {
         return index;
     }
 
-    public ArrayList<Client> getArchivedClients() {
-        return archivedClients;
+    /**
+     * Returns a read-only snapshot of the archived clients.
+     * Clients in the cold file are rebuilt from their records, so this is meant for small lists and tests.
+     *
+     * @return The archived clients at the time of the call.
+     * @throws FinanceProPlusException If the cold file cannot be read.
+     */
+    public List<Client> getArchivedClients() throws FinanceProPlusException {
+        lock.readLock().lock();
+        try {
+            List<Client> clients = new ArrayList<>();
+            for (Entry entry : archivedClients) {
+                clients.add(entry.isCold() ? rebuild(readRecords(List.of(entry)).get(0)) : entry.client);
+            }
+            return List.copyOf(clients);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
-     * Converts all archived clients to storage format.
+     * Returns the NRIC of the archived client at the given index, without reading the cold file.
+     */
+    public String getNric(int index) {
+        lock.readLock().lock();
+        try {
+            return archivedClients.get(index).nric;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return archivedClients.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns whether the list changed since it was last marked as saved, so unchanged saves can be skipped.
+     */
+    public boolean hasUnsavedChanges() {
+        lock.readLock().lock();
+        try {
+            return hasUnsavedChanges;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records that the current contents have been saved.
+     */
+    public void markSaved() {
+        lock.writeLock().lock();
+        try {
+            hasUnsavedChanges = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Converts all archived clients to storage format: the client line for clients kept in memory, or the
+     * index line pointing into the cold file, followed by the lines that were skipped on load.
      *
      * @return List of strings in storage format.
      */
     public List<String> toStorageFormat() {
-        List<String> lines = new ArrayList<>();
-        for (Client client : archivedClients) {
-            lines.add(client.toStorageString());
+        lock.readLock().lock();
+        try {
+            List<String> lines = new ArrayList<>();
+            for (Entry entry : archivedClients) {
+                lines.add(entry.toStorageString());
+            }
+            lines.addAll(unreadableLines);
+            return lines;
+        } finally {
+            lock.readLock().unlock();
         }
-        return lines;
     }
 
     /**
      * Loads archived clients from storage format.
+     * Client lines from before the cold file was used are moved into it when there is one, and index lines from
+     * before the index held the contact, policy names and to-do count are completed from their records once.
+     *
+     * <p>A line that cannot be loaded, e.g. because it points past the end of the cold file or its record cannot
+     * be read, is skipped with a warning instead of failing the whole load. Skipped lines are written back
+     * unchanged by {@link #toStorageFormat()}, so they are not lost if the cold file comes back. Clients that
+     * cannot be moved into the cold file are kept in memory and moved at the next start.
      *
      * @param lines List of strings in storage format.
      * @param policyList The policy list for client validation.
-     * @throws FinanceProPlusException If any client data is invalid.
      */
-    public void loadFromStorage(List<String> lines, ListContainer policyList) throws FinanceProPlusException {
+    public void loadFromStorage(List<String> lines, ListContainer policyList) {
         if (lines == null || lines.isEmpty()) {
             return;
         }
+        long coldFileSize = coldFile == null ? 0 : coldFile.size();
+        List<Entry> loaded = new ArrayList<>();
+        List<String> loadedLines = new ArrayList<>();
+        List<Client> toMigrate = new ArrayList<>();
+        List<Integer> incomplete = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
         for (String line : lines) {
-            Client client = new Client(line, policyList);
-            archivedClients.add(client);
+            try {
+                Map<String, List<String>> details = Client.parseClientDetails(line);
+                if (details.containsKey("o")) {
+                    Entry entry = parseIndexLine(details, line, coldFileSize);
+                    if (!details.containsKey("c")) {
+                        incomplete.add(loaded.size());
+                    }
+                    loaded.add(entry);
+                    loadedLines.add(line);
+                } else if (coldFile == null) {
+                    loaded.add(new Entry(new Client(line, policyList)));
+                    loadedLines.add(line);
+                } else {
+                    toMigrate.add(new Client(line, policyList));
+                }
+            } catch (FinanceProPlusException e) {
+                skip(line, e.getMessage(), skipped);
+            }
+        }
+        complete(loaded, loadedLines, incomplete, skipped);
+        loaded.addAll(migrate(toMigrate));
+        lock.writeLock().lock();
+        try {
+            archivedClients.addAll(loaded);
+            loaded.forEach(Entry::retain);
+            unreadableLines.addAll(skipped);
+            hasUnsavedChanges = hasUnsavedChanges || !toMigrate.isEmpty() || !incomplete.isEmpty();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void skip(String line, String reason, List<String> skipped) {
+        logger.warning(() -> "Skipped archived client '" + line + "': " + reason);
+        skipped.add(line);
+    }
+
+    private Entry parseIndexLine(Map<String, List<String>> details, String line, long coldFileSize)
+            throws FinanceProPlusException {
+        if (coldFile == null) {
+            throw new FinanceProPlusException("Archived client is in a cold file that is not available: " + line);
+        }
+        Location location;
+        try {
+            location = new Location(Long.parseLong(details.get("o").get(0)),
+                    Integer.parseInt(details.get("l").get(0)));
+        } catch (NullPointerException | NumberFormatException e) {
+            throw new FinanceProPlusException("Invalid archived client index entry: " + line);
+        }
+        if (location.getOffset() < 0 || location.getLength() <= 0
+                || location.getOffset() + location.getLength() > coldFileSize) {
+            throw new FinanceProPlusException("Archived client record is outside the cold file ("
+                    + coldFileSize + " bytes): " + line);
+        }
+        try {
+            if (!details.containsKey("c")) {
+                return new Entry(details.get("id").get(0), details.get("n").get(0), "", List.of(), 0, location);
+            }
+            return new Entry(details.get("id").get(0), details.get("n").get(0), details.get("c").get(0),
+                    details.getOrDefault("p", List.of()), Integer.parseInt(details.get("t").get(0)), location);
+        } catch (NullPointerException | NumberFormatException e) {
+            throw new FinanceProPlusException("Invalid archived client index entry: " + line);
+        }
+    }
+
+    /**
+     * Replaces the loaded entries at the given positions, which come from index lines without the contact,
+     * policy names and to-do count, with entries completed from their records in the cold file.
+     * Entries whose record cannot be read are removed and their lines added to the skipped ones.
+     */
+    private void complete(List<Entry> loaded, List<String> loadedLines, List<Integer> positions,
+            List<String> skipped) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        List<Entry> entries = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            entries.add(loaded.get(position));
+        }
+        List<List<String>> records;
+        try {
+            records = readRecords(entries);
+        } catch (FinanceProPlusException e) {
+            records = null;
+        }
+        for (int i = 0; i < positions.size(); i++) {
+            int position = positions.get(i);
+            try {
+                List<String> record = records != null ? records.get(i)
+                        : readRecords(List.of(entries.get(i))).get(0);
+                loaded.set(position, completeEntry(entries.get(i), record));
+            } catch (FinanceProPlusException | RuntimeException e) {
+                skip(loadedLines.get(position), "its record cannot be read: " + e.getMessage(), skipped);
+                loaded.set(position, null);
+            }
+        }
+        loaded.removeIf(Objects::isNull);
+        logger.info(() -> "Completed " + positions.size() + " archived client index entries from the cold file");
+    }
+
+    private static Entry completeEntry(Entry entry, List<String> record) {
+        int contractCount = Integer.parseInt(record.get(1));
+        List<String> policyNames = new ArrayList<>(contractCount);
+        for (String contract : record.subList(2, 2 + contractCount)) {
+            policyNames.add(Client.parseClientDetails(contract).get("p").get(0));
+        }
+        String contact = Client.parseClientDetails(record.get(0)).get("c").get(0);
+        return new Entry(entry.nric, entry.name, contact, policyNames, record.size() - 2 - contractCount,
+                entry.location);
+    }
+
+    /**
+     * Moves the given clients into the cold file in one append. If that fails, they are kept in memory instead.
+     */
+    private List<Entry> migrate(List<Client> clients) {
+        if (clients.isEmpty()) {
+            return List.of();
+        }
+        List<List<String>> records = new ArrayList<>();
+        for (Client client : clients) {
+            records.add(List.of(client.toStorageString(), "0"));
+        }
+        List<Entry> entries = new ArrayList<>();
+        try {
+            List<Location> locations = coldFile.append(records);
+            for (int i = 0; i < clients.size(); i++) {
+                entries.add(new Entry(clients.get(i), locations.get(i)));
+            }
+            logger.info(() -> "Moved " + clients.size() + " archived clients to the cold file");
+        } catch (IOException e) {
+            logger.warning(() -> "Could not move archived clients to the cold file, keeping them in memory: "
+                    + e.getMessage());
+            for (Client client : clients) {
+                entries.add(new Entry(client));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns whether the cold file should be compacted: it is at least {@value #MIN_COMPACTED_BYTES} bytes and
+     * more than half of it is records no archived client points to, such as those of restored clients.
+     * While any index line could not be loaded, the file is left as it is, as those lines point into it.
+     */
+    public boolean shouldCompact() {
+        lock.readLock().lock();
+        try {
+            if (coldFile == null || !unreadableLines.isEmpty()) {
+                return false;
+            }
+            long size = coldFile.size();
+            if (size < MIN_COMPACTED_BYTES) {
+                return false;
+            }
+            long usedBytes = 0;
+            for (Entry entry : archivedClients) {
+                if (entry.isCold()) {
+                    usedBytes += entry.location.getLength();
+                }
+            }
+            return usedBytes * 2 < size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copies the records of the archived clients from the cold file to the target and returns the index lines
+     * that point into the target. The list itself is unchanged; once the target has replaced the cold file,
+     * {@link #reload(List)} with the returned lines switches the list to it.
+     *
+     * @param target The file to copy the records to.
+     * @return The archived clients in storage format, pointing into the target.
+     * @throws IOException If the records cannot be copied.
+     */
+    public List<String> compactInto(CompressedRecordFile target) throws IOException {
+        assert coldFile != null : "Only a cold archive can be compacted";
+        lock.readLock().lock();
+        try {
+            List<Location> locations = new ArrayList<>();
+            for (Entry entry : archivedClients) {
+                if (entry.isCold()) {
+                    locations.add(entry.location);
+                }
+            }
+            List<Location> copied = coldFile.copyTo(locations, target);
+            List<String> lines = new ArrayList<>(archivedClients.size());
+            int next = 0;
+            for (Entry entry : archivedClients) {
+                lines.add(entry.isCold() ? entry.movedTo(copied.get(next++)).toStorageString()
+                        : entry.toStorageString());
+            }
+            return lines;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the archived clients with those loaded from the given lines, e.g. after the cold file has been
+     * compacted. Meant for startup, as undo entries recorded before would refer to the replaced clients.
+     *
+     * @param lines List of strings in storage format.
+     */
+    public void reload(List<String> lines) {
+        lock.writeLock().lock();
+        try {
+            archivedClients.forEach(Entry::release);
+            archivedClients.clear();
+            unreadableLines.clear();
+        } finally {
+            lock.writeLock().unlock();
         }
+        loadFromStorage(lines, catalog);
     }
 
     /**
-     * Converts all archived clients to CSV format.
+     * Converts all archived clients to CSV format, without reading the cold file.
      *
      * @return List of string arrays for CSV export.
      */
     public List<String[]> toCSVFormat() {
-        List<String[]> rows = new ArrayList<>();
-        rows.add(new String[]{"Name", "Contact", "NRIC", "Policies"});
-        for (Client client : archivedClients) {
-            rows.add(client.toCSVRow());
+        lock.readLock().lock();
+        try {
+            List<String[]> rows = new ArrayList<>();
+            rows.add(new String[]{"Name", "Contact", "NRIC", "Policies"});
+            for (String[] row : describeAll()) {
+                rows.add(new String[]{row[0], row[1], row[2], row[3]});
+            }
+            return rows;
+        } finally {
+            lock.readLock().unlock();
         }
-        return rows;
     }
 }
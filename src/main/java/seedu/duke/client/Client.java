@@ -5,6 +5,7 @@ import seedu.duke.exception.FinanceProPlusException;
 import seedu.duke.policy.ClientPolicy;
 import seedu.duke.policy.Policy;
 import seedu.duke.policy.PolicyList;
+import seedu.duke.task.Task;
 import seedu.duke.task.TaskList;
 
 import java.util.ArrayList;
@@ -14,14 +15,70 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Represents a client with their policy contracts and to-dos.
+ * When the {@link ClientRecordStore} is enabled, the name and contact number live in a record of the store instead
+ * of in this object's fields.
+ * The contract and to-do lists are only created when the first contract or to-do is added; until then, reads go
+ * to a shared empty list.
+ * The text of {@link #viewDetails()} is cached until the client's contracts or to-dos change.
+ * Like its contracts, the client counts what holds on to it, i.e. the lists it is in and the recorded changes that
+ * can put it back, and lets go of its contracts and its record once none is left.
+ */
 public class Client {
+    private static final long NO_RECORD = -1;
     private static final String CLIENT_REGEX = "\\s+(?=[a-z]+\\/)";
     private static final String ADD_CLIENT_FORMAT = "Correct format: client add n/<NAME> c/<CONTACT> id/<NRIC>";
+    private static final PolicyList NO_POLICIES = new PolicyList();
+    private static final TaskList NO_TODOS = new TaskList();
     private String name;
-    private PolicyList policyList;
-    private TaskList todoList;
+    private volatile PolicyList policyList;
+    private volatile TaskList todoList;
+    private boolean isActive;
     private String nric;
     private int phoneNumber;
+    private long record = NO_RECORD;
+    private volatile RenderedDetails renderedDetails;
+    private int holders;
+
+    /**
+     * The text of {@link #viewDetails()} together with what it was rendered from.
+     * Both lists publish a new snapshot on every change, and each contract has a version for changes to its terms,
+     * so the text is still valid while the snapshots are the same objects and the versions are unchanged.
+     */
+    private static class RenderedDetails {
+        private final List<Policy> policies;
+        private final int[] policyVersions;
+        private final List<Task> todos;
+        private final String text;
+
+        RenderedDetails(List<Policy> policies, List<Task> todos, String text) {
+            this.policies = policies;
+            this.policyVersions = versionsOf(policies);
+            this.todos = todos;
+            this.text = text;
+        }
+
+        boolean isRenderedFrom(List<Policy> currentPolicies, List<Task> currentTodos) {
+            if (policies != currentPolicies || todos != currentTodos) {
+                return false;
+            }
+            for (int i = 0; i < policyVersions.length; i++) {
+                if (((ClientPolicy) policies.get(i)).getVersion() != policyVersions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int[] versionsOf(List<Policy> policies) {
+            int[] versions = new int[policies.size()];
+            for (int i = 0; i < versions.length; i++) {
+                versions[i] = ((ClientPolicy) policies.get(i)).getVersion();
+            }
+            return versions;
+        }
+    }
 
     /**
      * Returns constructor for creating a Client, where the policy is OPTIONAL.
@@ -35,10 +92,6 @@ public class Client {
     public Client(String arguments, ListContainer mainPolicyList) throws FinanceProPlusException {
         assert arguments != null && !arguments.trim().isEmpty() : "Arguments for client creation cannot be null";
         assert mainPolicyList != null : "Main policy list cannot be null for validation";
-        this.policyList = new PolicyList();
-        this.todoList = new TaskList();
-        assert this.policyList != null : "policyList should not be null after initialization";
-        assert this.todoList != null : "todoList should not be null after initialization";
 
         Map<String, List<String>> detailsMap = parseClientDetails(arguments);
 
@@ -48,8 +101,13 @@ public class Client {
                 this.nric == null || this.nric.isEmpty()) {
             throw new FinanceProPlusException("Required fields are missing");
         }
+        ClientRecordStore records = ClientRecordStore.getInstance();
+        if (records != null) {
+            this.record = records.add(this.name, this.phoneNumber);
+            this.name = null;
+        }
 
-        assert this.name != null && !this.name.isEmpty() : "Client name should be initialized";
+        assert getName() != null && !getName().isEmpty() : "Client name should be initialized";
         assert this.nric != null && !this.nric.isEmpty() : "Client NRIC should be initialized";
 
 
@@ -121,15 +179,28 @@ public class Client {
 
     @Override
     public String toString() {
-        assert name != null : "Name should not be null when calling toString";
         assert nric != null : "NRIC should not be null when calling toString";
-        assert policyList != null : "PolicyList should not be null when calling toString";
-        return "Name: " + name + ", ID: " + nric + ", Contact: " + phoneNumber+
-                ", Policies: " + getPolicyCount() + ", To-Dos: " + getTodoCount();
+        return describe(getName(), nric, String.valueOf(getPhoneNumber()), getPolicyCount(), getTodoCount());
+    }
+
+    /**
+     * Returns the one-line summary {@link #toString()} gives for a client with the given details.
+     */
+    static String describe(String name, String nric, String contact, int policyCount, int todoCount) {
+        return "Name: " + name + ", ID: " + nric + ", Contact: " + contact +
+                ", Policies: " + policyCount + ", To-Dos: " + todoCount;
     }
 
     public String getName() {
-        return name;
+        return record != NO_RECORD ? ClientRecordStore.getInstance().getName(record) : name;
+    }
+
+    private int getPhoneNumber() {
+        return record != NO_RECORD ? ClientRecordStore.getInstance().getPhoneNumber(record) : phoneNumber;
+    }
+
+    String getContact() {
+        return String.valueOf(getPhoneNumber());
     }
 
     public String getNric() {
@@ -143,7 +214,7 @@ public class Client {
      */
     public void addPolicy(ClientPolicy policy) throws FinanceProPlusException {
         if (!this.hasPolicy(policy.getName())) {
-            this.policyList.addPolicy(policy);
+            getPolicyList().addPolicy(policy);
         }
     }
 
@@ -154,36 +225,137 @@ public class Client {
      * @return true if the client already has the policy, false otherwise.
      */
     public boolean hasPolicy(String policyName) throws FinanceProPlusException {
-        return this.policyList.findPolicyByName(policyName) != null;
+        return findContract(policyName) != null;
+    }
+
+    /**
+     * Returns the client's contract for the policy with the given name, ignoring case, without creating the
+     * contract list if there are none.
+     *
+     * @param policyName The name of the policy.
+     * @return The contract, or null if the client has none for the policy.
+     */
+    public Policy findContract(String policyName) throws FinanceProPlusException {
+        return policies().findPolicyByName(policyName);
+    }
+
+    /**
+     * Deletes the contract at the given 1-based position, without creating the contract list if there are none.
+     *
+     * @param indexString The position of the contract.
+     * @throws FinanceProPlusException If the position is invalid.
+     */
+    public void deleteContract(String indexString) throws FinanceProPlusException {
+        policies().deleteItem(indexString);
+    }
+
+    /**
+     * Returns a read-only snapshot of this client's contracts, without creating the list if there are none.
+     */
+    public List<Policy> getContracts() {
+        return policies().getPolicyList();
     }
 
     public PolicyList getClientPolicyList() {
-        return policyList;
+        return getPolicyList();
+    }
+
+    /**
+     * Returns the contract list if it has been created, or the shared empty list otherwise.
+     * Unlike {@link #getPolicyList()}, this never creates the list, so it is only for reading.
+     */
+    private PolicyList policies() {
+        PolicyList list = policyList;
+        return list != null ? list : NO_POLICIES;
+    }
+
+    /**
+     * Returns the to-do list if it has been created, or the shared empty list otherwise.
+     * Unlike {@link #getTodoList()}, this never creates the list, so it is only for reading.
+     */
+    private TaskList todos() {
+        TaskList list = todoList;
+        return list != null ? list : NO_TODOS;
+    }
+
+    /**
+     * Counts one more holder of this client: a list it is in, or a recorded change that can put it back.
+     */
+    synchronized void retain() {
+        holders++;
+    }
+
+    /**
+     * Counts one holder less. Once the last one lets go, nothing can reach the client any more, so its contracts
+     * are released as well, and its record in the {@link ClientRecordStore} is freed for the next new client.
+     */
+    synchronized void release() {
+        assert holders > 0 : "Client released more often than it was retained";
+        holders--;
+        if (holders > 0) {
+            return;
+        }
+        if (policyList != null) {
+            policyList.releaseContracts();
+        }
+        ClientRecordStore records = ClientRecordStore.getInstance();
+        if (record != NO_RECORD && records != null) {
+            records.free(record);
+        }
     }
 
+    /**
+     * Marks this client as being in the active client list or not, so its contracts are counted in
+     * {@link seedu.duke.policy.ContractStore} scans, and its contracts and to-dos are reminded of, only while it is.
+     *
+     * @param isActive Whether the client is in the active client list.
+     */
+    synchronized void setActive(boolean isActive) {
+        this.isActive = isActive;
+        if (policyList != null) {
+            policyList.setActive(isActive);
+        }
+        if (todoList != null) {
+            todoList.setActive(isActive);
+        }
+    }
+
+    /**
+     * Prints the client's details, contracts and to-dos in one write.
+     * The text is rendered again only if the contracts or to-dos changed since the last view.
+     */
     public void viewDetails() {
-        System.out.println("-------------------------------------");
-        System.out.println("         Client Details");
-        System.out.println("-------------------------------------");
-        System.out.println("Name: " + this.name);
-        System.out.println("NRIC: " + this.nric);
-        System.out.println("Contact: " + this.phoneNumber);
-        System.out.println("\n--- Policies ---");
-        ArrayList<Policy> policies = this.policyList.getPolicyList();
+        List<Policy> policies = policies().getPolicyList();
+        List<Task> todos = todos().getTaskList();
+        RenderedDetails rendered = renderedDetails;
+        if (rendered == null || !rendered.isRenderedFrom(policies, todos)) {
+            rendered = new RenderedDetails(policies, todos, renderDetails(policies, todos));
+            renderedDetails = rendered;
+        }
+        System.out.print(rendered.text);
+    }
+
+    private String renderDetails(List<Policy> policies, List<Task> todos) {
+        String newLine = System.lineSeparator();
+        StringBuilder sb = new StringBuilder(256 + 128 * policies.size() + 64 * todos.size());
+        sb.append("-------------------------------------").append(newLine);
+        sb.append("         Client Details").append(newLine);
+        sb.append("-------------------------------------").append(newLine);
+        sb.append("Name: ").append(getName()).append(newLine);
+        sb.append("NRIC: ").append(this.nric).append(newLine);
+        sb.append("Contact: ").append(getPhoneNumber()).append(newLine);
+        sb.append("\n--- Policies ---").append(newLine);
         if (policies.isEmpty()) {
-            System.out.println("This client currently has no policies.");
+            sb.append("This client currently has no policies.").append(newLine);
         } else {
             for (int i = 0; i < policies.size(); i++) {
                 ClientPolicy policy = (ClientPolicy) policies.get(i);
-                System.out.println((i + 1) + ". " + policy.viewDetails());
+                sb.append(i + 1).append(". ").append(policy.viewDetails()).append(newLine);
             }
         }
-        System.out.println("\n--- To-Dos ---");
-        try {
-            this.todoList.listItems();
-        } catch (FinanceProPlusException e) {
-            System.out.println("Could not display to-dos due to an error: " + e.getMessage());
-        }
+        sb.append("\n--- To-Dos ---").append(newLine);
+        sb.append(TaskList.render(todos));
+        return sb.toString();
     }
 
     /**
@@ -193,7 +365,7 @@ public class Client {
      * @return true if a policy was found and removed, false otherwise.
      */
     public boolean removePolicyByName(String policyName) {
-        PolicyList clientPolicies = this.getClientPolicyList();
+        PolicyList clientPolicies = policies();
         Policy policyToRemove = null;
         for (Policy p : clientPolicies.getPolicyList()) {
             if (p.getName().equalsIgnoreCase(policyName)) {
@@ -202,18 +374,39 @@ public class Client {
             }
         }
         if (policyToRemove != null) {
-            clientPolicies.getPolicyList().remove(policyToRemove);
-            return true;
+            return clientPolicies.removePolicy(policyToRemove);
+        }
+        return false;
+    }
+
+    /**
+     * Removes this client's contract for the given catalog policy.
+     * Contracts are matched by the catalog policy they refer to, not by name.
+     *
+     * @param basePolicy The catalog policy whose contract to remove.
+     * @return true if a contract was found and removed, false otherwise.
+     */
+    public boolean removePolicyFor(Policy basePolicy) {
+        for (Policy p : policies().getPolicyList()) {
+            if (p instanceof ClientPolicy && ((ClientPolicy) p).getBasePolicy() == basePolicy) {
+                return policyList.removePolicy(p);
+            }
         }
         return false;
     }
 
     /**
-     * Returns the todo list for this client.
+     * Returns the todo list for this client, creating it on first use.
      *
      * @return The TaskList containing this client's todos.
      */
-    public TaskList getTodoList() {
+    public synchronized TaskList getTodoList() {
+        if (todoList == null) {
+            todoList = new TaskList(nric);
+            if (isActive) {
+                todoList.setActive(true);
+            }
+        }
         return this.todoList;
     }
 
@@ -224,7 +417,7 @@ public class Client {
      * @throws FinanceProPlusException If the todo details are invalid.
      */
     public void addTodo(String todoArguments) throws FinanceProPlusException {
-        this.todoList.addItem(todoArguments);
+        getTodoList().addItem(todoArguments);
     }
 
     /**
@@ -233,23 +426,49 @@ public class Client {
      * @throws FinanceProPlusException If there's an error listing the todos.
      */
     public void listTodos() throws FinanceProPlusException {
-        System.out.println("To-dos for client " + this.name + " (NRIC: " + this.nric + "):");
-        this.todoList.listItems();
+        System.out.println("To-dos for client " + getName() + " (NRIC: " + this.nric + "):");
+        todos().listItems();
     }
 
 
+    /**
+     * Returns the storage lines of this client's to-dos, without creating the list if there are none.
+     */
+    public List<String> todosToStorageFormat() {
+        return todos().toStorageFormat();
+    }
+
+    /**
+     * Returns the storage lines of this client's contracts, without creating the list if there are none.
+     */
+    public List<String> policiesToStorageFormat() {
+        return policies().toStorageFormat();
+    }
+
     public String toStorageString() {
-        return String.format("n/%s id/%s c/%s", name, nric, phoneNumber);
+        return String.format("n/%s id/%s c/%s", getName(), nric, getPhoneNumber());
     }
 
 
     public String[] toCSVRow() {
-        String joinedPolicies = policyList.getPolicyList().isEmpty()
-                ? "none"
-                : policyList.getPolicyList().stream()
+        return toCSVRow(getName(), getContact(), nric, getPolicyNames());
+    }
+
+    /**
+     * Returns the names of the policies of this client's contracts, in order.
+     */
+    List<String> getPolicyNames() {
+        return policies().getPolicyList().stream()
                 .map(Policy::getName)
-                .collect(Collectors.joining(", "));
-        return new String[]{name, String.valueOf(phoneNumber), nric, joinedPolicies};
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the CSV row {@link #toCSVRow()} gives for a client with the given details.
+     */
+    static String[] toCSVRow(String name, String contact, String nric, List<String> policyNames) {
+        String joinedPolicies = policyNames.isEmpty() ? "none" : String.join(", ", policyNames);
+        return new String[]{name, contact, nric, joinedPolicies};
     }
 
     /**
@@ -268,7 +487,18 @@ public class Client {
         return nric.matches(nricRegex);
     }
 
-    public PolicyList getPolicyList() {
+    /**
+     * Returns the contract list for this client, creating it on first use.
+     *
+     * @return The PolicyList containing this client's contracts.
+     */
+    public synchronized PolicyList getPolicyList() {
+        if (policyList == null) {
+            policyList = new PolicyList(nric);
+            if (isActive) {
+                policyList.setActive(true);
+            }
+        }
         return this.policyList;
     }
 
@@ -278,7 +508,7 @@ public class Client {
      * @return The count of policies.
      */
     public int getPolicyCount() {
-        return this.policyList.getPolicyList().size();
+        return policies().getPolicyList().size();
     }
 
     /**
@@ -287,7 +517,7 @@ public class Client {
      * @return The count of to-dos.
      */
     public int getTodoCount() {
-        return this.todoList.getSize();
+        return todos().getSize();
     }
 }
 
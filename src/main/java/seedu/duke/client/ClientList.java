@@ -2,20 +2,33 @@ package seedu.duke.client;
 
 import seedu.duke.container.ListContainer;
 import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.history.Change;
+import seedu.duke.history.ChangeJournal;
+import seedu.duke.metrics.IndexRebuildEvent;
 import seedu.duke.policy.Policy;
 import seedu.duke.policy.PolicyList;
 import seedu.duke.policy.ClientPolicy;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.math.BigDecimal;
 
+/**
+ * Represents the list of active clients.
+ * All access goes through a read-write lock, so several sessions can read and modify the list concurrently.
+ * Clients are additionally indexed by NRIC, which is kept in sync with the list on every mutation.
+ */
 public class ClientList implements ListContainer {
+    private static final String NRIC_INDEX = "clientsByNric";
+    private static final BigDecimal MAX_PREMIUM = BigDecimal.valueOf(Long.MAX_VALUE, 2);
     private static final String DELETE_CLIENT_FORMAT = "Correct format: client delete <INDEX>";
     private static final String ADD_CLIENT_FORMAT = "Correct format: client add n/<NAME> c/<CONTACT> id/<NRIC> ";
     private static final String ADD_POLICY_FORMAT = "Correct format: client addpolicy id/<NRIC> p/<POLICY_NAME> " +
@@ -27,10 +40,15 @@ public class ClientList implements ListContainer {
     private static final String INVALID_PREMIUM_FORMAT_MESSAGE = "Invalid premium format. Please enter a " +
             "valid number (e.g., 150.75).";
     private static final Logger logger = Logger.getLogger(ClientList.class.getName());
-    private ArrayList<Client> clients;
+    private final ArrayList<Client> clients;
+    private final HashMap<String, Client> clientsByNric;
+    private final ReentrantReadWriteLock lock;
+    private boolean hasDuplicateNrics;
 
     public ClientList() {
         this.clients = new ArrayList<Client>();
+        this.clientsByNric = new HashMap<>();
+        this.lock = new ReentrantReadWriteLock();
         assert clients != null : "Client list should be initialized properly";
     }
 
@@ -47,15 +65,134 @@ public class ClientList implements ListContainer {
 
     public void addClient(Client client) {
         assert client != null : "Client to be added should not be null";
-        int oldSize = clients.size();
-        clients.add(client);
-        assert clients.size() == oldSize + 1 : "Client list size should increase by 1 after adding a client";
-        System.out.println("Noted. I've added this client:");
-        System.out.println(client);
+        lock.writeLock().lock();
+        try {
+            int oldSize = clients.size();
+            insertAt(oldSize, client);
+            assert clients.size() == oldSize + 1 : "Client list size should increase by 1 after adding a client";
+            client.retain();
+            ChangeJournal.record(Change.of(() -> removeAt(oldSize), () -> insertAt(oldSize, client),
+                    client::release));
+            System.out.println("Noted. I've added this client:");
+            System.out.println(client);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the client at the given index.
+     *
+     * @param index The zero-based index of the client.
+     * @return The client.
+     */
+    public Client getClient(int index) {
+        lock.readLock().lock();
+        try {
+            return clients.get(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the client at the given index without printing anything.
+     *
+     * @param index The zero-based index of the client to remove.
+     * @return The removed client.
+     */
+    public Client removeClient(int index) {
+        lock.writeLock().lock();
+        try {
+            assert index >= 0 && index < clients.size() : "Index must be within valid range";
+            Client removedClient = clients.get(index);
+            removedClient.retain();
+            removeAt(index);
+            ChangeJournal.record(Change.of(() -> insertAt(index, removedClient), () -> removeAt(index),
+                    removedClient::release));
+            return removedClient;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void insertAt(int index, Client client) {
+        lock.writeLock().lock();
+        try {
+            clients.add(index, client);
+            client.retain();
+            client.setActive(true);
+            Client existing = clientsByNric.putIfAbsent(client.getNric(), client);
+            if (existing != null) {
+                hasDuplicateNrics = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
-    public ArrayList<Client> getClientList() {
-        return clients;
+    private Client removeAt(int index) {
+        lock.writeLock().lock();
+        try {
+            Client removedClient = clients.remove(index);
+            removedClient.setActive(false);
+            String nric = removedClient.getNric();
+            if (clientsByNric.get(nric) == removedClient) {
+                clientsByNric.remove(nric);
+                if (hasDuplicateNrics) {
+                    reindexNric(nric);
+                }
+            }
+            removedClient.release();
+            return removedClient;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Points the index at another client sharing the given NRIC, if any.
+     * Only needed when duplicates were let in, e.g. by restoring an archived client whose NRIC was re-used.
+     */
+    private void reindexNric(String nric) {
+        IndexRebuildEvent event = IndexRebuildEvent.start(NRIC_INDEX, "removed duplicate");
+        int scanned = 0;
+        for (Client client : clients) {
+            scanned++;
+            if (client.getNric().equals(nric)) {
+                clientsByNric.put(nric, client);
+                break;
+            }
+        }
+        event.finish(scanned);
+    }
+
+    /**
+     * Returns a read-only snapshot of the clients.
+     * Later changes to this list are not reflected in the snapshot.
+     *
+     * @return The clients at the time of the call.
+     */
+    public List<Client> getClientList() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(clients);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return clients.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
     }
 
     @Override
@@ -74,56 +211,79 @@ public class ClientList implements ListContainer {
                     + "\nWhere [] are optional fields.");
         }
         String sanitizedNric = nric.replaceAll("\\s+", "");
-        if (findClientByNric(sanitizedNric) != null) {
-            throw new FinanceProPlusException("A client with NRIC '" + nric.toUpperCase() + "' already exists.");
+        Client client;
+        lock.writeLock().lock();
+        try {
+            if (findClientByNric(sanitizedNric) != null) {
+                throw new FinanceProPlusException("A client with NRIC '" + nric.toUpperCase() + "' already exists.");
+            }
+            client = new Client(arguments, policyList);
+            addClient(client);
+        } finally {
+            lock.writeLock().unlock();
         }
-        Client client = new Client(arguments, policyList);
-        addClient(client);
-        logger.info("Successfully added new client: " + client.getName());
+        logger.info(() -> "Successfully added new client: " + client.getName());
     }
 
     @Override
     public void deleteItem(String arguments) throws FinanceProPlusException {
-        if (clients.isEmpty()) {
-            System.out.println("No clients to delete.");
-            return;
+        lock.writeLock().lock();
+        try {
+            if (clients.isEmpty()) {
+                System.out.println("No clients to delete.");
+                return;
+            }
+            int oldSize = clients.size();
+            int index = checkDeleteIndex(arguments);
+            Client removedClient = removeClient(index);
+            assert clients.size() == oldSize - 1 : "Client list size should decrease by 1 after deleting a client";
+            System.out.println("Noted. I've removed this client:");
+            System.out.println(removedClient.toString());
+            logger.info(() -> "Successfully deleted client: " + removedClient.getName());
+        } finally {
+            lock.writeLock().unlock();
         }
-        int oldSize = clients.size();
-        int index = checkDeleteIndex(arguments);
-        Client removedClient = clients.remove(index);
-        assert clients.size() == oldSize - 1 : "Client list size should decrease by 1 after deleting a client";
-        System.out.println("Noted. I've removed this client:");
-        System.out.println(removedClient.toString());
-        logger.info("Successfully deleted client: " + removedClient.getName());
     }
 
     @Override
     public void listItems() {
-        if (clients.isEmpty()) {
-            System.out.println("No clients found.");
-        } else {
-            System.out.println("Here are the clients in your list:");
-            for (int i = 0; i < clients.size(); i++) {
-                System.out.println((i + 1) + ". " + clients.get(i).toString());
+        lock.readLock().lock();
+        try {
+            if (clients.isEmpty()) {
+                System.out.println("No clients found.");
+            } else {
+                System.out.println("Here are the clients in your list:");
+                for (int i = 0; i < clients.size(); i++) {
+                    System.out.println((i + 1) + ". " + clients.get(i).toString());
+                }
             }
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
     @Override
     public int checkDeleteIndex(String arguments) throws FinanceProPlusException {
-        int index;
+        lock.readLock().lock();
         try {
-            index = Integer.parseInt(arguments) - 1;
-            if (index < 0 || index >= clients.size()) {
-                throw new FinanceProPlusException("Invalid index. The index you provided is out of bounds.\n"
-                        + DELETE_CLIENT_FORMAT);
+            int index;
+            try {
+                index = Integer.parseInt(arguments) - 1;
+                if (index < 0 || index >= clients.size()) {
+                    throw new FinanceProPlusException("Invalid index. The index you provided is out of bounds.\n"
+                            + DELETE_CLIENT_FORMAT);
+                }
+            } catch (NumberFormatException e) {
+                throw new FinanceProPlusException("Invalid input. Please provide a numerical index.\n" +
+                        DELETE_CLIENT_FORMAT);
             }
-        } catch (NumberFormatException e) {
-            throw new FinanceProPlusException("Invalid input. Please provide a numerical index.\n" +
-                    DELETE_CLIENT_FORMAT);
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Validated delete index: " + index);
+            }
+            return index;
+        } finally {
+            lock.readLock().unlock();
         }
-        logger.fine("Validated delete index: " + index);
-        return index;
     }
 
     public Client findClientByNric(String nric) throws FinanceProPlusException {
@@ -132,12 +292,12 @@ public class ClientList implements ListContainer {
                     "Make sure id/ isn't empty\n");
         }
         String upperCaseNricToFind = nric.toUpperCase();
-        for (Client client : this.clients) {
-            if (client.getNric().equals(upperCaseNricToFind)) {
-                return client;
-            }
+        lock.readLock().lock();
+        try {
+            return clientsByNric.get(upperCaseNricToFind);
+        } finally {
+            lock.readLock().unlock();
         }
-        return null;
     }
 
     public void searchClient(String nric) throws FinanceProPlusException {
@@ -159,37 +319,47 @@ public class ClientList implements ListContainer {
      * @throws FinanceProPlusException If any validation fails.
      */
     public void addPolicyToClient(String arguments, ListContainer mainPolicyList) throws FinanceProPlusException {
-        Map<String, List<String>> argsMap = parseAndValidateAddPolicyArgs(arguments);
-        String nric = argsMap.get("id").get(0);
-        Client client = findClientByNric(nric);
+        lock.writeLock().lock();
+        try {
+            Map<String, List<String>> argsMap = parseAndValidateAddPolicyArgs(arguments);
+            String nric = argsMap.get("id").get(0);
+            Client client = findClientByNric(nric);
 
-        if (client == null) {
-            throw new FinanceProPlusException("Client with NRIC '" + nric + "' does not exist.");
+            if (client == null) {
+                throw new FinanceProPlusException("Client with NRIC '" + nric + "' does not exist.");
+            }
+            String basePolicyName = argsMap.get("p").get(0);
+            Policy basePolicy = validateAndGetBasePolicy(client, mainPolicyList, basePolicyName);
+            ClientPolicy newClientPolicy = createClientPolicyFromArgs(argsMap, basePolicy);
+            client.addPolicy(newClientPolicy);
+            System.out.println("Successfully added new policy contract to client " + nric + ".");
+            System.out.println("Updated Client Details: " + client);
+        } finally {
+            lock.writeLock().unlock();
         }
-        String basePolicyName = argsMap.get("p").get(0);
-        Policy basePolicy = validateAndGetBasePolicy(client, mainPolicyList, basePolicyName);
-        ClientPolicy newClientPolicy = createClientPolicyFromArgs(argsMap, basePolicy);
-        client.addPolicy(newClientPolicy);
-        System.out.println("Successfully added new policy contract to client " + nric + ".");
-        System.out.println("Updated Client Details: " + client);
     }
 
     public void addPolicyToClientSilent(String arguments, ListContainer mainPolicyList) throws FinanceProPlusException {
-        Map<String, List<String>> argsMap = parseAndValidateAddPolicyArgs(arguments);
-        String nric = argsMap.get("id").get(0);
-        Client client = findClientByNric(nric);
-        if (client == null) {
-            throw new FinanceProPlusException("Client with NRIC '" + nric + "' does not exist.");
-        }
+        lock.writeLock().lock();
+        try {
+            Map<String, List<String>> argsMap = parseAndValidateAddPolicyArgs(arguments);
+            String nric = argsMap.get("id").get(0);
+            Client client = findClientByNric(nric);
+            if (client == null) {
+                throw new FinanceProPlusException("Client with NRIC '" + nric + "' does not exist.");
+            }
 
-        String basePolicyName = argsMap.get("p").get(0);
-        Policy basePolicy = validateAndGetBasePolicy(client, mainPolicyList, basePolicyName);
-        ClientPolicy newClientPolicy = createClientPolicyFromArgs(argsMap, basePolicy);
+            String basePolicyName = argsMap.get("p").get(0);
+            Policy basePolicy = validateAndGetBasePolicy(client, mainPolicyList, basePolicyName);
+            ClientPolicy newClientPolicy = createClientPolicyFromArgs(argsMap, basePolicy);
 
-        client.addPolicy(newClientPolicy);
+            client.addPolicy(newClientPolicy);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
-    private ClientPolicy createClientPolicyFromArgs(Map<String, List<String>> argsMap, Policy basePolicy)
+    private static ClientPolicy createClientPolicyFromArgs(Map<String, List<String>> argsMap, Policy basePolicy)
             throws FinanceProPlusException {
         try {
             List<LocalDate> dates = parseAndValidateDates(argsMap);
@@ -204,6 +374,29 @@ public class ClientList implements ListContainer {
         }
     }
 
+    /**
+     * Parses a contract in the format a client's policy file stores it in, e.g. when restoring an archived client.
+     *
+     * @param line    The stored contract, e.g. {@code p/Health m/100.00 s/01-01-2024 e/31-12-2024}.
+     * @param catalog The catalog to look the policy up in.
+     * @return The contract, not yet added to any client.
+     * @throws FinanceProPlusException If the policy is no longer in the catalog or the terms are invalid.
+     */
+    static ClientPolicy parseContract(String line, PolicyList catalog) throws FinanceProPlusException {
+        Map<String, List<String>> argsMap = Client.parseClientDetails(line);
+        final Set<String> requiredKeys = Set.of("p", "s", "e", "m");
+        if (!argsMap.keySet().containsAll(requiredKeys)) {
+            throw new FinanceProPlusException("Invalid stored contract: " + line);
+        }
+        String basePolicyName = argsMap.get("p").get(0);
+        Policy basePolicy = catalog.findPolicyByName(basePolicyName);
+        if (basePolicy == null) {
+            throw new FinanceProPlusException("Error: Base policy '" + basePolicyName
+                    + "' not found in the main list.");
+        }
+        return createClientPolicyFromArgs(argsMap, basePolicy);
+    }
+
     private Policy validateAndGetBasePolicy(Client client, ListContainer mainPolicyList, String basePolicyName)
             throws FinanceProPlusException {
         PolicyList companyPolicies = (PolicyList) mainPolicyList;
@@ -232,15 +425,20 @@ public class ClientList implements ListContainer {
     }
 
     public void updatePolicyForClient(String arguments) throws FinanceProPlusException {
-        Map<String, List<String>> argsMap = parseAndValidateUpdatePolicyArgs(arguments);
-        ClientPolicy clientPolicyToUpdate = findClientPolicyToUpdate(argsMap);
-        boolean wasUpdated = applyPolicyUpdatesFromArgs(clientPolicyToUpdate, argsMap);
-        if (wasUpdated) {
-            System.out.println("Successfully updated policy '" + clientPolicyToUpdate.getName()
-                    + "' for client " + argsMap.get("id").get(0) + ".");
-            System.out.println("New Details: " + clientPolicyToUpdate);
-        } else {
-            System.out.println("No updates were applied.");
+        lock.writeLock().lock();
+        try {
+            Map<String, List<String>> argsMap = parseAndValidateUpdatePolicyArgs(arguments);
+            ClientPolicy clientPolicyToUpdate = findClientPolicyToUpdate(argsMap);
+            boolean wasUpdated = applyPolicyUpdatesFromArgs(clientPolicyToUpdate, argsMap);
+            if (wasUpdated) {
+                System.out.println("Successfully updated policy '" + clientPolicyToUpdate.getName()
+                        + "' for client " + argsMap.get("id").get(0) + ".");
+                System.out.println("New Details: " + clientPolicyToUpdate);
+            } else {
+                System.out.println("No updates were applied.");
+            }
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
@@ -269,7 +467,7 @@ public class ClientList implements ListContainer {
         if (client == null) {
             throw new FinanceProPlusException("Error: Client with NRIC '" + nric + "' not found.");
         }
-        Policy clientPolicy = client.getClientPolicyList().findPolicyByName(basePolicyName);
+        Policy clientPolicy = client.findContract(basePolicyName);
 
         if (clientPolicy == null) {
             throw new FinanceProPlusException("Error: Client " + nric + " does not have a contract for policy '"
@@ -354,46 +552,62 @@ public class ClientList implements ListContainer {
     }
 
     public List<String> toStorageFormat() {
-        List<String> lines = new ArrayList<>();
-        for (Client c : clients) {
-            lines.add(c.toStorageString());
+        lock.readLock().lock();
+        try {
+            List<String> lines = new ArrayList<>();
+            for (Client c : clients) {
+                lines.add(c.toStorageString());
+            }
+            return lines;
+        } finally {
+            lock.readLock().unlock();
         }
-        return lines;
     }
 
     public void loadFromStorage(List<String> lines, ListContainer mainPolicyList)
             throws FinanceProPlusException {
-        for (String line : lines) {
-            try {
-                Client newClient = new Client(line, mainPolicyList);
+        IndexRebuildEvent event = IndexRebuildEvent.start(NRIC_INDEX, "load");
+        lock.writeLock().lock();
+        try {
+            for (String line : lines) {
+                try {
+                    Client newClient = new Client(line, mainPolicyList);
 
-                // Check for duplicates before adding
-                boolean duplicateExists = clients.stream()
-                        .anyMatch(existingClient -> existingClient.getNric().equalsIgnoreCase(newClient.getNric()));
+                    // Check for duplicates before adding
+                    boolean duplicateExists = clientsByNric.containsKey(newClient.getNric());
 
-                if (duplicateExists) {
-                    logger.warning("Duplicate client detected during load: "
-                            + newClient.getNric() + ". Skipping entry.");
+                    if (duplicateExists) {
+                        logger.warning(() -> "Duplicate client detected during load: "
+                                + newClient.getNric() + ". Skipping entry.");
 
-                    continue;
-                }
+                        continue;
+                    }
 
-                clients.add(newClient);
+                    insertAt(clients.size(), newClient);
 
-            } catch (Exception e) {
-                System.out.println("Failed to load client from line: " + line + " | Error: " + e.getMessage());
+                } catch (Exception e) {
+                    System.out.println("Failed to load client from line: " + line + " | Error: " + e.getMessage());
+                }
             }
+        } finally {
+            lock.writeLock().unlock();
+            event.finish(lines.size());
         }
     }
 
 
     public List<String[]> toCSVFormat() {
-        List<String[]> rows = new ArrayList<>();
-        rows.add(new String[]{"Name", "Contact", "NRIC", "Policy"});
-        for (Client c : clients) {
-            rows.add(c.toCSVRow());
+        lock.readLock().lock();
+        try {
+            List<String[]> rows = new ArrayList<>();
+            rows.add(new String[]{"Name", "Contact", "NRIC", "Policy"});
+            for (Client c : clients) {
+                rows.add(c.toCSVRow());
+            }
+            return rows;
+        } finally {
+            lock.readLock().unlock();
         }
-        return rows;
     }
 
     /**
@@ -404,25 +618,29 @@ public class ClientList implements ListContainer {
      * @throws FinanceProPlusException If arguments are invalid, client is not found, or index is invalid.
      */
     public void deletePolicyForClient(String arguments) throws FinanceProPlusException {
-        Map<String, List<String>> argsMap = Client.parseClientDetails(arguments);
-        checkDuplicates(argsMap);
-        final Set<String> allowedKeys = Set.of("id","i");
-        if (!argsMap.keySet().equals(allowedKeys)) {
-            throw new FinanceProPlusException("Invalid format. This command only accepts the 'id/' and 'i/ parameter.");
-        }
-        String nric = safeGetFirst(argsMap, "id");
-        String indexString = safeGetFirst(argsMap, "i");
-        if (nric.isEmpty() || indexString.isEmpty()) {
-            throw new FinanceProPlusException("Invalid command. Both client NRIC (id/) and " +
-                    "policy index (i/) are required.\n" + DELETE_POLICY_FORMAT);
-        }
-        Client client = findClientByNric(nric);
-        if (client == null) {
-            throw new FinanceProPlusException("Error: Client with NRIC '" + nric + "' not found.");
+        lock.writeLock().lock();
+        try {
+            Map<String, List<String>> argsMap = Client.parseClientDetails(arguments);
+            checkDuplicates(argsMap);
+            final Set<String> allowedKeys = Set.of("id","i");
+            if (!argsMap.keySet().equals(allowedKeys)) {
+                throw new FinanceProPlusException("Invalid format. This command only accepts the 'id/' "
+                        + "and 'i/ parameter.");
+            }
+            String nric = safeGetFirst(argsMap, "id");
+            String indexString = safeGetFirst(argsMap, "i");
+            if (nric.isEmpty() || indexString.isEmpty()) {
+                throw new FinanceProPlusException("Invalid command. Both client NRIC (id/) and " +
+                        "policy index (i/) are required.\n" + DELETE_POLICY_FORMAT);
+            }
+            Client client = findClientByNric(nric);
+            if (client == null) {
+                throw new FinanceProPlusException("Error: Client with NRIC '" + nric + "' not found.");
+            }
+            client.deleteContract(indexString);
+        } finally {
+            lock.writeLock().unlock();
         }
-        PolicyList clientPolicies = client.getClientPolicyList();
-        clientPolicies.deleteItem(indexString);
-
     }
 
     /**
@@ -433,7 +651,7 @@ public class ClientList implements ListContainer {
      * @return A validated BigDecimal object.
      * @throws FinanceProPlusException If the format is invalid.
      */
-    private BigDecimal parseAndValidatePremium(String premiumString) throws FinanceProPlusException {
+    private static BigDecimal parseAndValidatePremium(String premiumString) throws FinanceProPlusException {
         BigDecimal premium;
         try {
             premium = new BigDecimal(premiumString);
@@ -446,13 +664,21 @@ public class ClientList implements ListContainer {
         if (premium.compareTo(BigDecimal.ZERO) < 0) {
             throw new FinanceProPlusException("Invalid premium amount. The premium cannot be negative.");
         }
+        if (premium.compareTo(MAX_PREMIUM) > 0) {
+            throw new FinanceProPlusException("Invalid premium amount. The premium cannot exceed " + MAX_PREMIUM + ".");
+        }
         return premium;
     }
 
     public void updatePolicyForClientSilently(String arguments) throws FinanceProPlusException {
-        Map<String, List<String>> argsMap = parseAndValidateUpdatePolicyArgs(arguments);
-        ClientPolicy clientPolicyToUpdate = findClientPolicyToUpdate(argsMap);
-        applyPolicyUpdatesFromArgs(clientPolicyToUpdate, argsMap);
+        lock.writeLock().lock();
+        try {
+            Map<String, List<String>> argsMap = parseAndValidateUpdatePolicyArgs(arguments);
+            ClientPolicy clientPolicyToUpdate = findClientPolicyToUpdate(argsMap);
+            applyPolicyUpdatesFromArgs(clientPolicyToUpdate, argsMap);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -478,7 +704,8 @@ public class ClientList implements ListContainer {
      * @return A List containing the parsed startDate (at index 0) and expiryDate (at index 1).
      * @throws FinanceProPlusException If dates are in the wrong format or logically invalid.
      */
-    private List<LocalDate> parseAndValidateDates(Map<String, List<String>> argsMap) throws FinanceProPlusException {
+    private static List<LocalDate> parseAndValidateDates(Map<String, List<String>> argsMap)
+            throws FinanceProPlusException {
         LocalDate startDate;
         LocalDate expiryDate;
 
@@ -0,0 +1,157 @@
+package seedu.duke.client;
+
+import seedu.duke.policy.ContractStore;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the name and contact number of every client in direct buffers outside the Java heap.
+ * Enabled with the system property {@value ContractStore#OFF_HEAP_PROPERTY}, which also moves the columns of the
+ * {@link ContractStore} off the heap; a {@link Client} created while it is enabled keeps only the handle of its
+ * record, and reads its fields from here.
+ *
+ * <p>Records are appended to fixed-size segments and never move, so a handle stays valid until its record is freed.
+ * A removed client keeps its record while undo or redo may still put it back; once nothing can, {@link Client} frees
+ * the record. The next record that fits in a freed slot is written there instead of being appended, and what is left
+ * of the slot becomes a free slot of its own if it can hold a record header.
+ */
+public class ClientRecordStore {
+    static final int SEGMENT_SIZE = 1 << 20;
+    private static final int HEADER = 2 * Integer.BYTES;
+
+    private static volatile ClientRecordStore instance = Boolean.getBoolean(ContractStore.OFF_HEAP_PROPERTY)
+            ? new ClientRecordStore(SEGMENT_SIZE) : null;
+
+    private final int segmentSize;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final TreeMap<Integer, ArrayDeque<Long>> freeSlots = new TreeMap<>();
+    private int position;
+    private long usedBytes;
+    private int recordCount;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param segmentSize The size of each segment in bytes. Larger records get a segment of their own.
+     */
+    public ClientRecordStore(int segmentSize) {
+        assert segmentSize > HEADER : "Segments must fit at least an empty record";
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns the store, or null if client fields are kept on the heap.
+     */
+    public static ClientRecordStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * Replaces the store. Clients created before the call keep pointing at records of the old store, so this is
+     * only meant for tests that start from an empty book.
+     *
+     * @param store The new store, or null to keep client fields on the heap.
+     */
+    static void setInstance(ClientRecordStore store) {
+        instance = store;
+    }
+
+    /**
+     * Writes a record holding the contact number and the name as UTF-8, into the smallest freed slot it fits in or
+     * else at the end of the last segment.
+     *
+     * @return The handle of the record: the segment in the high 32 bits and the offset in the low 32 bits.
+     */
+    synchronized long add(String name, int phoneNumber) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        int length = HEADER + nameBytes.length;
+        long handle = takeFreeSlot(length);
+        if (handle < 0) {
+            if (segments.isEmpty() || position + length > segments.get(segments.size() - 1).capacity()) {
+                segments.add(ByteBuffer.allocateDirect(Math.max(segmentSize, length)));
+                position = 0;
+            }
+            handle = ((long) (segments.size() - 1) << 32) | position;
+            position += length;
+        }
+        ByteBuffer segment = segments.get((int) (handle >>> 32));
+        int offset = (int) handle;
+        segment.putInt(offset, phoneNumber);
+        segment.putInt(offset + Integer.BYTES, nameBytes.length);
+        segment.put(offset + HEADER, nameBytes);
+        usedBytes += length;
+        recordCount++;
+        return handle;
+    }
+
+    /**
+     * Frees the record with the given handle, so its slot can be reused. The record can still be read until then.
+     */
+    synchronized void free(long handle) {
+        int length = HEADER + segments.get((int) (handle >>> 32)).getInt((int) handle + Integer.BYTES);
+        freeSlots.computeIfAbsent(length, slotLength -> new ArrayDeque<>()).push(handle);
+        usedBytes -= length;
+        recordCount--;
+    }
+
+    /**
+     * Takes the smallest freed slot of at least the given length, putting what is left of it back as a slot of its
+     * own if it can hold a record header.
+     *
+     * @return The handle of the slot, or -1 if no freed slot is large enough.
+     */
+    private long takeFreeSlot(int length) {
+        Map.Entry<Integer, ArrayDeque<Long>> slots = freeSlots.ceilingEntry(length);
+        if (slots == null) {
+            return -1;
+        }
+        long handle = slots.getValue().pop();
+        if (slots.getValue().isEmpty()) {
+            freeSlots.remove(slots.getKey());
+        }
+        int leftover = slots.getKey() - length;
+        if (leftover >= HEADER) {
+            freeSlots.computeIfAbsent(leftover, slotLength -> new ArrayDeque<>()).push(handle + length);
+        }
+        return handle;
+    }
+
+    synchronized String getName(long handle) {
+        ByteBuffer segment = segments.get((int) (handle >>> 32));
+        int offset = (int) handle;
+        byte[] nameBytes = new byte[segment.getInt(offset + Integer.BYTES)];
+        segment.get(offset + HEADER, nameBytes);
+        return new String(nameBytes, StandardCharsets.UTF_8);
+    }
+
+    synchronized int getPhoneNumber(long handle) {
+        return segments.get((int) (handle >>> 32)).getInt((int) handle);
+    }
+
+    /**
+     * Returns the number of records in use, i.e. written and not freed since.
+     */
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the number of bytes taken by records.
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Returns the number of bytes reserved for segments outside the heap.
+     */
+    public synchronized long getReservedBytes() {
+        return segments.stream().mapToLong(ByteBuffer::capacity).sum();
+    }
+}
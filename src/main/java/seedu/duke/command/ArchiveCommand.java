@@ -34,14 +34,16 @@ public class ArchiveCommand extends Command {
         ClientList clientList = (ClientList) lookUpTable.getList("client");
         ArchivedClientList archivedList = (ArchivedClientList) lookUpTable.getList("archived");
 
-        if (clientList.getClientList().isEmpty()) {
+        if (clientList.isEmpty()) {
             System.out.println("No clients to archive.");
             return;
         }
 
         int index = clientList.checkDeleteIndex(arguments);
-        Client clientToArchive = clientList.getClientList().remove(index);
+        // Archive before removing, so the client is held by one list or the other throughout.
+        Client clientToArchive = clientList.getClient(index);
         archivedList.archiveClient(clientToArchive);
+        clientList.removeClient(index);
     }
 
     @Override
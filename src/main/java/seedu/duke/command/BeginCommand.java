@@ -0,0 +1,28 @@
+package seedu.duke.command;
+
+import seedu.duke.container.LookUpTable;
+import seedu.duke.exception.FinanceProPlusException;
+
+public class BeginCommand extends Command {
+    public BeginCommand() {
+
+    }
+
+    /**
+     * Opens a transaction so that the following changes are only saved on commit.
+     *
+     * @param lookUpTable The lookup table containing all lists.
+     * @throws FinanceProPlusException If a transaction is already in progress.
+     */
+    @Override
+    public void execute(LookUpTable lookUpTable) throws FinanceProPlusException {
+        lookUpTable.getHistory().begin();
+        System.out.println("Transaction started. Changes will be saved when you run 'commit', "
+                + "or discarded with 'rollback'.");
+    }
+
+    @Override
+    public void printExecutionMessage() {
+        System.out.println("----------------------------------------------------");
+    }
+}
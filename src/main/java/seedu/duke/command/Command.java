@@ -15,4 +15,18 @@ public class Command {
     public void printExecutionMessage() throws FinanceProPlusException {
         throw new FinanceProPlusException("This command should be implemented by child classes");
     }
+
+    public String getSubtype() {
+        return subtype;
+    }
+
+    /**
+     * Returns a short label for this kind of command, e.g. {@code AddCommand client}, used when reporting metrics.
+     *
+     * @return The class name, followed by the subtype if the command has one.
+     */
+    public String getLabel() {
+        String name = getClass().getSimpleName();
+        return subtype == null ? name : name + " " + subtype;
+    }
 }
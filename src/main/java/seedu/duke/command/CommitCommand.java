@@ -0,0 +1,27 @@
+package seedu.duke.command;
+
+import seedu.duke.container.LookUpTable;
+import seedu.duke.exception.FinanceProPlusException;
+
+public class CommitCommand extends Command {
+    public CommitCommand() {
+
+    }
+
+    /**
+     * Closes the open transaction, keeping all of its changes so they are saved in one write.
+     *
+     * @param lookUpTable The lookup table containing all lists.
+     * @throws FinanceProPlusException If no transaction is in progress.
+     */
+    @Override
+    public void execute(LookUpTable lookUpTable) throws FinanceProPlusException {
+        int changeCount = lookUpTable.getHistory().commit();
+        System.out.println("Transaction committed. " + changeCount + " change(s) saved.");
+    }
+
+    @Override
+    public void printExecutionMessage() {
+        System.out.println("----------------------------------------------------");
+    }
+}
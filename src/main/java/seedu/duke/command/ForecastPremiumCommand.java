@@ -0,0 +1,77 @@
+package seedu.duke.command;
+
+import seedu.duke.client.ClientList;
+import seedu.duke.container.LookUpTable;
+import seedu.duke.policy.Policy;
+import seedu.duke.policy.PolicyList;
+import seedu.duke.policy.PremiumForecast;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public class ForecastPremiumCommand extends Command {
+    private final int months;
+
+    /**
+     * Creates a command that projects the premium inflow of the active clients' contracts.
+     *
+     * @param months The number of months to project, starting with the current month.
+     */
+    public ForecastPremiumCommand(int months) {
+        this.subtype = "premium";
+        this.months = months;
+    }
+
+    /**
+     * Prints the projected premium inflow of every month, with the amount of each catalog policy that has
+     * contracts paying in that month, followed by the total of each policy over all months.
+     *
+     * @param lookUpTable The lookup table containing all lists.
+     */
+    @Override
+    public void execute(LookUpTable lookUpTable) {
+        ClientList clients = (ClientList) lookUpTable.getList("client");
+        PolicyList catalog = (PolicyList) lookUpTable.getList("policy");
+        PremiumForecast forecast = PremiumForecast.compute(clients.getClientList(), catalog.getPolicyList(),
+                YearMonth.now(), months);
+        print(forecast);
+    }
+
+    static void print(PremiumForecast forecast) {
+        List<Policy> policies = forecast.getPolicies();
+        System.out.println("Projected premium inflow for " + forecast.getMonthCount() + " month(s) from "
+                + forecast.getMonth(0) + ":");
+        long grandTotal = 0;
+        for (int m = 0; m < forecast.getMonthCount(); m++) {
+            StringBuilder line = new StringBuilder();
+            line.append(forecast.getMonth(m)).append(": ").append(formatCents(forecast.getTotalCents(m)));
+            String separator = " (";
+            for (int p = 0; p < policies.size(); p++) {
+                long cents = forecast.getPolicyCents(p, m);
+                if (cents != 0) {
+                    line.append(separator).append(policies.get(p).getName()).append(" ").append(formatCents(cents));
+                    separator = ", ";
+                }
+            }
+            if (!separator.equals(" (")) {
+                line.append(")");
+            }
+            System.out.println(line);
+            grandTotal += forecast.getTotalCents(m);
+        }
+        System.out.println("Total: " + formatCents(grandTotal));
+        System.out.println("By base policy:");
+        for (int p = 0; p < policies.size(); p++) {
+            System.out.println("- " + policies.get(p).getName() + ": " + formatCents(forecast.getPolicyTotalCents(p)));
+        }
+    }
+
+    static String formatCents(long cents) {
+        return String.format("$%,d.%02d", cents / 100, cents % 100);
+    }
+
+    @Override
+    public void printExecutionMessage() {
+        System.out.println("----------------------------------------------------");
+    }
+}
@@ -21,16 +21,29 @@ public class HelpCommand extends Command {
         clientPolicy();
         tasks();
         userProfile();
+        transactions();
         miscs();
     }
 
     private static void miscs() {
         System.out.println("--- Miscellaneous ---");
         System.out.println("- help: Shows this list of commands.");
+        System.out.println("- metrics: Shows how long each kind of command takes (p50/p95/p99/max).");
+        System.out.println("- metrics storage: Shows file and byte counts and save/load times of the data files.");
+        System.out.println("- memory: Shows the estimated memory used by clients, policies, meetings and tasks.");
         System.out.println("- exit: Exits the application.");
         System.out.println("---------------------------------------------------------------------------------");
     }
 
+    private static void transactions() {
+        System.out.println("--- Transactions and Undo ---");
+        System.out.println("- begin: Starts a transaction. Changes are only saved when it is committed.");
+        System.out.println("- commit: Saves all changes made since 'begin' in one write.");
+        System.out.println("- rollback: Discards all changes made since 'begin'.");
+        System.out.println("- undo: Reverts the last command or committed transaction.");
+        System.out.println("- redo: Re-applies the last undone command or transaction.\n");
+    }
+
     private static void userProfile() {
         System.out.println("--- User Profile Management ---");
         System.out.println("- user add n/<NAME> e/<EMAIL> c/<CONTACT> r/<REP_NUMBER>: Adds your user profile.");
@@ -47,7 +60,9 @@ public class HelpCommand extends Command {
     private static void policyManagement() {
         System.out.println("--- Base Policy Management ---");
         System.out.println("- policy add n/<NAME> d/<DETAILS>: Creates a new base policy template.");
-        System.out.println("- policy delete <INDEX>: Deletes a base policy template.\n");
+        System.out.println("- policy delete <INDEX>: Deletes a base policy template.");
+        System.out.println("- forecast premium [months/<N>]: Projects monthly premium income for the next N months"
+                + " (default 12), per base policy.\n");
     }
 
     private static void meetingManagement() {
@@ -8,6 +8,7 @@ public class ListCommand extends Command{
     private String arguments;
 
     public ListCommand(String subtype) {
+        this.subtype = subtype;
         arguments = subtype;
     }
     @Override
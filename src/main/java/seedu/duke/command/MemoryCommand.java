@@ -0,0 +1,118 @@
+package seedu.duke.command;
+
+import seedu.duke.client.ArchivedClientList;
+import seedu.duke.client.Client;
+import seedu.duke.client.ClientList;
+import seedu.duke.client.ClientRecordStore;
+import seedu.duke.container.LookUpTable;
+import seedu.duke.meeting.MeetingList;
+import seedu.duke.metrics.MemoryEstimator;
+import seedu.duke.metrics.MemoryEstimator.Footprint;
+import seedu.duke.policy.ContractStore;
+import seedu.duke.policy.PolicyList;
+import seedu.duke.task.TaskList;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static seedu.duke.metrics.MemoryEstimator.formatBytes;
+
+public class MemoryCommand extends Command {
+    private static final String ROW_FORMAT = "%-28s %10s %12s %12s";
+
+    /**
+     * One line of the table: a container, the number of items it holds and the objects to measure for it.
+     */
+    private static class Row {
+        private final String label;
+        private final int itemCount;
+        private final List<?> roots;
+
+        Row(String label, int itemCount, List<?> roots) {
+            this.label = label;
+            this.itemCount = itemCount;
+            this.roots = roots;
+        }
+    }
+
+    /**
+     * Prints the estimated size and object count of each container, followed by the JVM heap usage and the memory
+     * held outside the heap by direct buffers.
+     * The catalog is measured first, then the per-client lists, so the client rows exclude what those rows
+     * already counted and the sizes add up to the total.
+     *
+     * @param lookUpTable The lookup table containing all lists.
+     */
+    @Override
+    public void execute(LookUpTable lookUpTable) {
+        ClientList clientList = (ClientList) lookUpTable.getList("client");
+        ArchivedClientList archivedList = (ArchivedClientList) lookUpTable.getList("archived");
+        PolicyList policyList = (PolicyList) lookUpTable.getList("policy");
+        MeetingList meetingList = (MeetingList) lookUpTable.getList("meeting");
+        TaskList taskList = (TaskList) lookUpTable.getList("task");
+        List<Client> clients = clientList.getClientList();
+        List<PolicyList> contracts = new ArrayList<>();
+        List<TaskList> todos = new ArrayList<>();
+        int contractCount = 0;
+        int todoCount = 0;
+        for (Client client : clients) {
+            // Lists are created on first use, so only ask for the ones that have something in them.
+            if (client.getPolicyCount() > 0) {
+                contracts.add(client.getPolicyList());
+                contractCount += client.getPolicyCount();
+            }
+            if (client.getTodoCount() > 0) {
+                todos.add(client.getTodoList());
+                todoCount += client.getTodoCount();
+            }
+        }
+
+        ContractStore store = ContractStore.getInstance();
+        ClientRecordStore records = ClientRecordStore.getInstance();
+        MemoryEstimator estimator = new MemoryEstimator();
+        long totalObjects = 0;
+        long totalBytes = 0;
+        System.out.println("Estimated memory footprint:");
+        System.out.println(String.format(ROW_FORMAT, "Container", "Items", "Objects", "Size"));
+        List<Row> rows = List.of(
+                new Row("PolicyList (catalog)", policyList.getPolicyList().size(), List.of(policyList)),
+                new Row("Client contracts", contractCount, contracts),
+                new Row("ContractStore (columnar)", contractCount, store == null ? List.of() : List.of(store)),
+                new Row("Client to-dos", todoCount, todos),
+                new Row("ClientList", clients.size(), List.of(clientList)),
+                new Row("ClientRecordStore", clients.size(), records == null ? List.of() : List.of(records)),
+                new Row("ArchivedClientList", archivedList.size(), List.of(archivedList)),
+                new Row("MeetingList", meetingList.getSize(), List.of(meetingList)),
+                new Row("TaskList", taskList.getSize(), List.of(taskList)));
+        for (Row row : rows) {
+            Footprint footprint = estimator.measureAll(row.roots);
+            totalObjects += footprint.getObjects();
+            totalBytes += footprint.getBytes();
+            System.out.println(String.format(ROW_FORMAT, row.label, row.itemCount, footprint.getObjects(),
+                    formatBytes(footprint.getBytes())));
+        }
+        System.out.println(String.format(ROW_FORMAT, "Total", "", totalObjects, formatBytes(totalBytes)));
+
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        System.out.println("Heap: " + formatBytes(used) + " used, " + formatBytes(runtime.totalMemory())
+                + " committed, " + formatBytes(runtime.maxMemory()) + " max");
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                System.out.println("Off-heap: " + formatBytes(pool.getMemoryUsed()) + " in " + pool.getCount()
+                        + " direct buffers");
+            }
+        }
+        if (records != null) {
+            System.out.println("Client records: " + formatBytes(records.getUsedBytes()) + " used, "
+                    + formatBytes(records.getReservedBytes()) + " reserved");
+        }
+    }
+
+    @Override
+    public void printExecutionMessage() {
+        System.out.println("----------------------------------------------------");
+    }
+}
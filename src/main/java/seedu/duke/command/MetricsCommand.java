@@ -0,0 +1,45 @@
+package seedu.duke.command;
+
+import seedu.duke.container.LookUpTable;
+import seedu.duke.metrics.CommandMetrics;
+import seedu.duke.metrics.StorageStats;
+
+import java.util.List;
+
+public class MetricsCommand extends Command {
+    public MetricsCommand(String subtype) {
+        this.subtype = subtype.isEmpty() ? null : subtype;
+    }
+
+    /**
+     * Prints the latency percentiles of every command phase recorded since the application started,
+     * or the storage I/O counters for {@code metrics storage}.
+     *
+     * @param lookUpTable The lookup table containing all lists.
+     */
+    @Override
+    public void execute(LookUpTable lookUpTable) {
+        if ("storage".equals(subtype)) {
+            System.out.println("Storage I/O since startup:");
+            printLines(StorageStats.report());
+            return;
+        }
+        if (CommandMetrics.isEmpty()) {
+            System.out.println("No commands have been timed yet.");
+            return;
+        }
+        System.out.println("Command latencies since startup:");
+        printLines(CommandMetrics.report());
+    }
+
+    private void printLines(List<String> lines) {
+        for (String line : lines) {
+            System.out.println(line);
+        }
+    }
+
+    @Override
+    public void printExecutionMessage() {
+        System.out.println("----------------------------------------------------");
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.duke.command;
+
+import seedu.duke.container.LookUpTable;
+import seedu.duke.exception.FinanceProPlusException;
+
+public class RedoCommand extends Command {
+    public RedoCommand() {
+
+    }
+
+    /**
+     * Re-applies the most recently undone command or committed transaction.
+     *
+     * @param lookUpTable The lookup table containing all lists.
+     * @throws FinanceProPlusException If there is nothing to redo or a transaction is in progress.
+     */
+    @Override
+    public void execute(LookUpTable lookUpTable) throws FinanceProPlusException {
+        int changeCount = lookUpTable.getHistory().redo();
+        System.out.println("Redone. " + changeCount + " change(s) re-applied.");
+    }
+
+    @Override
+    public void printExecutionMessage() {
+        System.out.println("----------------------------------------------------");
+    }
+}
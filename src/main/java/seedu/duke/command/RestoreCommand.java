@@ -34,7 +34,7 @@ public class RestoreCommand extends Command {
         ArchivedClientList archivedList = (ArchivedClientList) lookUpTable.getList("archived");
         ClientList clientList = (ClientList) lookUpTable.getList("client");
 
-        if (archivedList.getArchivedClients().isEmpty()) {
+        if (archivedList.isEmpty()) {
             System.out.println("No archived clients to restore.");
             return;
         }
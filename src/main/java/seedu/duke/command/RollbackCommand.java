@@ -0,0 +1,27 @@
+package seedu.duke.command;
+
+import seedu.duke.container.LookUpTable;
+import seedu.duke.exception.FinanceProPlusException;
+
+public class RollbackCommand extends Command {
+    public RollbackCommand() {
+
+    }
+
+    /**
+     * Closes the open transaction and reverts every change made since it began.
+     *
+     * @param lookUpTable The lookup table containing all lists.
+     * @throws FinanceProPlusException If no transaction is in progress.
+     */
+    @Override
+    public void execute(LookUpTable lookUpTable) throws FinanceProPlusException {
+        int changeCount = lookUpTable.getHistory().rollback();
+        System.out.println("Transaction rolled back. " + changeCount + " change(s) discarded.");
+    }
+
+    @Override
+    public void printExecutionMessage() {
+        System.out.println("----------------------------------------------------");
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.duke.command;
+
+import seedu.duke.container.LookUpTable;
+import seedu.duke.exception.FinanceProPlusException;
+
+public class UndoCommand extends Command {
+    public UndoCommand() {
+
+    }
+
+    /**
+     * Reverts the most recently completed command or committed transaction.
+     *
+     * @param lookUpTable The lookup table containing all lists.
+     * @throws FinanceProPlusException If there is nothing to undo or a transaction is in progress.
+     */
+    @Override
+    public void execute(LookUpTable lookUpTable) throws FinanceProPlusException {
+        int changeCount = lookUpTable.getHistory().undo();
+        System.out.println("Undone. " + changeCount + " change(s) reverted.");
+    }
+
+    @Override
+    public void printExecutionMessage() {
+        System.out.println("----------------------------------------------------");
+    }
+}
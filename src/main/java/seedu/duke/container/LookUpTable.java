@@ -2,6 +2,7 @@ package seedu.duke.container;
 
 import seedu.duke.client.ArchivedClientList;
 import seedu.duke.client.ClientList;
+import seedu.duke.history.History;
 import seedu.duke.meeting.MeetingList;
 import seedu.duke.policy.PolicyList;
 import seedu.duke.task.TaskList;
@@ -15,6 +16,7 @@ import java.util.HashMap;
  */
 public class LookUpTable {
     private HashMap<String, ListContainer> map;
+    private final History history;
     public LookUpTable(ClientList clients, PolicyList policies, MeetingList meetings, 
                        TaskList tasks, UserList user, ArchivedClientList archived) {
         map = new HashMap<String, ListContainer>();
@@ -24,8 +26,29 @@ public class LookUpTable {
         map.put("task", tasks);
         map.put("user", user);
         map.put("archived", archived);
+        history = new History();
     }
+
+    private LookUpTable(HashMap<String, ListContainer> map, History history) {
+        this.map = map;
+        this.history = history;
+    }
+
+    /**
+     * Returns a table with the same lists but the given history, e.g. the history of one server session.
+     *
+     * @param history The history that undo, redo and transactions should use.
+     * @return This table if it already uses the history, a new table sharing its lists otherwise.
+     */
+    public LookUpTable withHistory(History history) {
+        return history == this.history ? this : new LookUpTable(map, history);
+    }
+
     public ListContainer getList(String key) {
         return map.get(key);
     }
+
+    public History getHistory() {
+        return history;
+    }
 }
@@ -0,0 +1,74 @@
+package seedu.duke.history;
+
+/**
+ * Represents a single reversible mutation of the in-memory data.
+ * A change only captures the items it touched, so reverting it costs time proportional to that change.
+ */
+public interface Change {
+    void undo();
+
+    void redo();
+
+    /**
+     * Lets go of what only this change kept alive, once it has been dropped from the history and will neither be
+     * undone nor redone again. Called at most once; does nothing by default.
+     */
+    default void discard() {
+    }
+
+    /**
+     * Creates a change from a pair of actions that revert and re-apply the same mutation.
+     *
+     * @param undo The action that reverts the mutation.
+     * @param redo The action that re-applies the mutation.
+     * @return The change wrapping both actions.
+     */
+    static Change of(Runnable undo, Runnable redo) {
+        assert undo != null && redo != null : "Change actions cannot be null";
+        return new Change() {
+            @Override
+            public void undo() {
+                undo.run();
+            }
+
+            @Override
+            public void redo() {
+                redo.run();
+            }
+        };
+    }
+
+    /**
+     * Creates a change from a pair of actions that revert and re-apply the same mutation, and an action that lets
+     * go of the items the change holds on to so it can put them back.
+     *
+     * @param undo    The action that reverts the mutation.
+     * @param redo    The action that re-applies the mutation.
+     * @param discard The action to run once the change is dropped from the history.
+     * @return The change wrapping the actions.
+     */
+    static Change of(Runnable undo, Runnable redo, Runnable discard) {
+        assert undo != null && redo != null && discard != null : "Change actions cannot be null";
+        return new Change() {
+            private boolean isDiscarded;
+
+            @Override
+            public void undo() {
+                undo.run();
+            }
+
+            @Override
+            public void redo() {
+                redo.run();
+            }
+
+            @Override
+            public void discard() {
+                if (!isDiscarded) {
+                    isDiscarded = true;
+                    discard.run();
+                }
+            }
+        };
+    }
+}
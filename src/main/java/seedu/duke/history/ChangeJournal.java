@@ -0,0 +1,105 @@
+package seedu.duke.history;
+
+/**
+ * Collects the changes made by the command currently executing on this thread.
+ * Containers report every mutation here; outside of a recording, reported changes are discarded at once, as
+ * nothing will ever undo them.
+ */
+public class ChangeJournal {
+    private static final ThreadLocal<ChangeSet> recording = new ThreadLocal<>();
+
+    private ChangeJournal() {
+    }
+
+    /**
+     * Records a change if a recording is active on the calling thread, and discards it otherwise.
+     *
+     * @param change The change to record.
+     */
+    public static void record(Change change) {
+        ChangeSet changes = recording.get();
+        if (changes != null) {
+            changes.add(change);
+        } else {
+            change.discard();
+        }
+    }
+
+    /**
+     * Records every change of a set if a recording is active on the calling thread, e.g. the changes a worker
+     * thread made on behalf of the current command. Without a recording, the changes are discarded.
+     *
+     * @param changes The changes to record, in order.
+     */
+    public static void recordAll(ChangeSet changes) {
+        ChangeSet recorded = recording.get();
+        if (recorded != null) {
+            recorded.addAll(changes);
+        } else {
+            changes.discard();
+        }
+    }
+
+    /**
+     * Runs an action and adds the changes it made to the given set, without adding them to the recording active on
+     * the calling thread. Used by worker threads, whose changes are handed back to the command's thread for
+     * {@link #recordAll(ChangeSet)}; any recording on the worker is restored afterwards. If the action throws,
+     * the set still holds the changes made before.
+     *
+     * @param changes The set to add the changes to.
+     * @param action  The action to run.
+     */
+    public static void recordSeparately(ChangeSet changes, Runnable action) {
+        assert changes != null : "Change set cannot be null";
+        ChangeSet previous = recording.get();
+        recording.set(changes);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                recording.set(previous);
+            } else {
+                recording.remove();
+            }
+        }
+    }
+
+    /**
+     * Starts a new recording on the calling thread, discarding any unfinished one.
+     */
+    public static void start() {
+        ChangeSet unfinished = recording.get();
+        if (unfinished != null) {
+            unfinished.discard();
+        }
+        recording.set(new ChangeSet());
+    }
+
+    /**
+     * Stops the recording on the calling thread.
+     *
+     * @return The changes recorded since {@link #start()}, or an empty set if nothing was recording.
+     */
+    public static ChangeSet stop() {
+        ChangeSet changes = recording.get();
+        recording.remove();
+        return changes == null ? new ChangeSet() : changes;
+    }
+
+    /**
+     * Runs an action without recording the mutations it makes, e.g. when replaying or reverting changes.
+     *
+     * @param action The action to run.
+     */
+    public static void runUnrecorded(Runnable action) {
+        ChangeSet changes = recording.get();
+        recording.remove();
+        try {
+            action.run();
+        } finally {
+            if (changes != null) {
+                recording.set(changes);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.duke.history;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents an ordered group of changes that are reverted and re-applied as one unit.
+ */
+public class ChangeSet {
+    private final List<Change> changes;
+
+    public ChangeSet() {
+        this.changes = new ArrayList<>();
+    }
+
+    public void add(Change change) {
+        assert change != null : "Change cannot be null";
+        changes.add(change);
+    }
+
+    /**
+     * Appends every change of another set to the end of this set.
+     *
+     * @param other The set whose changes are appended.
+     */
+    public void addAll(ChangeSet other) {
+        assert other != null : "Change set cannot be null";
+        changes.addAll(other.changes);
+    }
+
+    /**
+     * Reverts all changes, most recent first.
+     */
+    public void undo() {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).undo();
+        }
+    }
+
+    /**
+     * Re-applies all changes in their original order.
+     */
+    public void redo() {
+        for (Change change : changes) {
+            change.redo();
+        }
+    }
+
+    /**
+     * Drops all changes, letting go of what they kept alive to be able to revert or re-apply them.
+     */
+    public void discard() {
+        for (Change change : changes) {
+            change.discard();
+        }
+    }
+
+    public int size() {
+        return changes.size();
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+}
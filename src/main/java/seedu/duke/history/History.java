@@ -0,0 +1,231 @@
+package seedu.duke.history;
+
+import seedu.duke.exception.FinanceProPlusException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Tracks the changes made by each command and groups them into transactions.
+ * A command that fails has its partial changes reverted, so it never leaves the data half-applied.
+ * While a transaction is open, changes are staged in memory until {@link #commit()} or {@link #rollback()}.
+ * Completed commands and committed transactions are kept as inverse deltas for {@link #undo()} and
+ * {@link #redo()}, bounded both by the number of entries and by the total number of recorded changes.
+ * Every entry that is dropped, whether trimmed, cleared or reverted for good, is discarded, so the items only it
+ * could have put back can be freed.
+ */
+public class History {
+    static final String MAX_ENTRIES_PROPERTY = "financeproplus.undo.limit";
+    static final String MAX_CHANGES_PROPERTY = "financeproplus.undo.maxChanges";
+    private static final int DEFAULT_MAX_ENTRIES = 50;
+    private static final int DEFAULT_MAX_CHANGES = 200_000;
+    private final int maxEntries;
+    private final int maxChanges;
+    private final Deque<ChangeSet> undoStack;
+    private final Deque<ChangeSet> redoStack;
+    private int undoChangeCount;
+    private ChangeSet transaction;
+    private long changeCount;
+
+    public History() {
+        this(Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES),
+                Integer.getInteger(MAX_CHANGES_PROPERTY, DEFAULT_MAX_CHANGES));
+    }
+
+    /**
+     * Creates a history with explicit bounds.
+     *
+     * @param maxEntries The maximum number of commands that can be undone.
+     * @param maxChanges The maximum number of individual changes kept across all undoable commands.
+     */
+    public History(int maxEntries, int maxChanges) {
+        assert maxEntries >= 0 && maxChanges >= 0 : "History bounds cannot be negative";
+        this.maxEntries = maxEntries;
+        this.maxChanges = maxChanges;
+        this.undoStack = new ArrayDeque<>();
+        this.redoStack = new ArrayDeque<>();
+    }
+
+    /**
+     * Starts recording the changes of a command about to run on the calling thread.
+     */
+    public void beginCommand() {
+        ChangeJournal.start();
+    }
+
+    /**
+     * Stops recording the current command and files its changes.
+     *
+     * @param hasSucceeded Whether the command completed without error. Changes of a failed command are reverted.
+     */
+    public void endCommand(boolean hasSucceeded) {
+        ChangeSet changes = ChangeJournal.stop();
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (!hasSucceeded) {
+            ChangeJournal.runUnrecorded(changes::undo);
+            changes.discard();
+            return;
+        }
+        changeCount++;
+        if (transaction != null) {
+            transaction.addAll(changes);
+        } else {
+            pushUndoable(changes);
+        }
+    }
+
+    /**
+     * Opens a transaction. Changes made until the next commit or rollback are not saved.
+     *
+     * @throws FinanceProPlusException If a transaction is already open.
+     */
+    public void begin() throws FinanceProPlusException {
+        if (transaction != null) {
+            throw new FinanceProPlusException("A transaction is already in progress. "
+                    + "Use 'commit' or 'rollback' to end it first.");
+        }
+        transaction = new ChangeSet();
+    }
+
+    /**
+     * Closes the open transaction, keeping its changes.
+     *
+     * @return The number of changes kept.
+     * @throws FinanceProPlusException If no transaction is open.
+     */
+    public int commit() throws FinanceProPlusException {
+        ChangeSet committed = closeTransaction();
+        if (!committed.isEmpty()) {
+            pushUndoable(committed);
+        }
+        return committed.size();
+    }
+
+    /**
+     * Closes the open transaction and reverts all of its changes.
+     *
+     * @return The number of changes reverted.
+     * @throws FinanceProPlusException If no transaction is open.
+     */
+    public int rollback() throws FinanceProPlusException {
+        ChangeSet discarded = closeTransaction();
+        if (!discarded.isEmpty()) {
+            ChangeJournal.runUnrecorded(discarded::undo);
+            discarded.discard();
+            changeCount++;
+        }
+        return discarded.size();
+    }
+
+    public boolean isInTransaction() {
+        return transaction != null;
+    }
+
+    /**
+     * Reverts the most recent command or committed transaction.
+     *
+     * @return The number of changes reverted.
+     * @throws FinanceProPlusException If a transaction is open or there is nothing to undo.
+     */
+    public int undo() throws FinanceProPlusException {
+        checkNotInTransaction("undo");
+        if (undoStack.isEmpty()) {
+            throw new FinanceProPlusException("Nothing to undo.");
+        }
+        ChangeSet changes = undoStack.pop();
+        undoChangeCount -= changes.size();
+        ChangeJournal.runUnrecorded(changes::undo);
+        changeCount++;
+        redoStack.push(changes);
+        return changes.size();
+    }
+
+    /**
+     * Re-applies the most recently undone command or transaction.
+     *
+     * @return The number of changes re-applied.
+     * @throws FinanceProPlusException If a transaction is open or there is nothing to redo.
+     */
+    public int redo() throws FinanceProPlusException {
+        checkNotInTransaction("redo");
+        if (redoStack.isEmpty()) {
+            throw new FinanceProPlusException("Nothing to redo.");
+        }
+        ChangeSet changes = redoStack.pop();
+        ChangeJournal.runUnrecorded(changes::redo);
+        changeCount++;
+        undoStack.push(changes);
+        undoChangeCount += changes.size();
+        trimUndoStack();
+        return changes.size();
+    }
+
+    /**
+     * Returns how many times the data was changed through this history: by a command, an undo, a redo or a
+     * rollback. Unchanged between two calls means nothing was changed in between.
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Forgets every command that could be undone or redone, e.g. because another session changed the data since.
+     * The recorded changes refer to items by their position, so they cannot be reverted safely after that.
+     */
+    public void discardUndoable() {
+        discardAll(undoStack);
+        discardAll(redoStack);
+        undoChangeCount = 0;
+    }
+
+    public int getUndoSize() {
+        return undoStack.size();
+    }
+
+    public int getRedoSize() {
+        return redoStack.size();
+    }
+
+    private void pushUndoable(ChangeSet changes) {
+        discardAll(redoStack);
+        undoStack.push(changes);
+        undoChangeCount += changes.size();
+        trimUndoStack();
+    }
+
+    /**
+     * Drops the oldest undo entries until the configured bounds are respected.
+     * An entry larger than the change budget on its own is dropped as well, so memory stays capped.
+     */
+    private void trimUndoStack() {
+        while (!undoStack.isEmpty() && (undoStack.size() > maxEntries || undoChangeCount > maxChanges)) {
+            ChangeSet dropped = undoStack.removeLast();
+            undoChangeCount -= dropped.size();
+            dropped.discard();
+        }
+    }
+
+    private static void discardAll(Deque<ChangeSet> stack) {
+        while (!stack.isEmpty()) {
+            stack.pop().discard();
+        }
+    }
+
+    private void checkNotInTransaction(String action) throws FinanceProPlusException {
+        if (transaction != null) {
+            throw new FinanceProPlusException("Cannot " + action + " while a transaction is in progress. "
+                    + "Use 'commit' or 'rollback' first.");
+        }
+    }
+
+    private ChangeSet closeTransaction() throws FinanceProPlusException {
+        if (transaction == null) {
+            throw new FinanceProPlusException("No transaction in progress. Use 'begin' to start one.");
+        }
+        ChangeSet closed = transaction;
+        transaction = null;
+        return closed;
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.duke.logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Hands log records to a background thread, which publishes them to the wrapped handler.
+ * Records wait in a bounded ring buffer; when it is full, the {@link OverflowPolicy} decides whether the caller
+ * waits for space or the record is dropped. Dropped records are counted and reported once space frees up.
+ */
+public class AsyncHandler extends Handler {
+    private static final long POLL_MILLIS = 100;
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+    private final Handler target;
+    private final BlockingQueue<LogRecord> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong unreportedDropCount = new AtomicLong();
+    private final AtomicLong queuedCount = new AtomicLong();
+    private long writtenCount;
+    private final Thread writer;
+    private volatile boolean isClosed = false;
+
+    /**
+     * What {@link #publish(LogRecord)} does when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Discard the record, so the caller never waits. */
+        DROP,
+        /** Wait until the writer thread has made room, so no record is lost. */
+        BLOCK
+    }
+
+    /**
+     * Creates a handler that publishes to the given handler on a background thread.
+     *
+     * @param target         The handler that does the actual writing.
+     * @param capacity       The maximum number of records waiting to be written.
+     * @param overflowPolicy What to do when the buffer is full.
+     */
+    public AsyncHandler(Handler target, int capacity, OverflowPolicy overflowPolicy) {
+        assert target != null : "Target handler cannot be null";
+        assert overflowPolicy != null : "Overflow policy cannot be null";
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Log buffer capacity must be positive.");
+        }
+        this.target = target;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.writer = new Thread(this::writeRecords, "financeproplus-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a record for the writer thread.
+     * The caller's class and method are resolved first, since they cannot be inferred on another thread.
+     *
+     * @param record The record to log.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        record.getSourceMethodName();
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (buffer.offer(record)) {
+                queuedCount.incrementAndGet();
+            } else {
+                recordDrop();
+            }
+            return;
+        }
+        try {
+            buffer.put(record);
+            queuedCount.incrementAndGet();
+        } catch (InterruptedException e) {
+            recordDrop();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void recordDrop() {
+        droppedCount.incrementAndGet();
+        unreportedDropCount.incrementAndGet();
+    }
+
+    /**
+     * Waits until every record queued before the call has been written, then flushes the wrapped handler.
+     * The writer thread counts the records it has handed to the wrapped handler and wakes waiting callers, so an
+     * empty buffer with the last record still being written is not mistaken for done.
+     */
+    @Override
+    public void flush() {
+        long queued = queuedCount.get();
+        synchronized (this) {
+            while (writtenCount < queued && writer.isAlive()) {
+                try {
+                    wait(POLL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        target.flush();
+    }
+
+    /**
+     * Writes the remaining records and closes the wrapped handler.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+        target.close();
+    }
+
+    public Handler getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the number of records dropped since this handler was created.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void writeRecords() {
+        while (!isClosed) {
+            try {
+                LogRecord record = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (record != null) {
+                    write(record);
+                    drain();
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private synchronized void write(LogRecord record) {
+        target.publish(record);
+        writtenCount++;
+        notifyAll();
+    }
+
+    private synchronized void drain() {
+        LogRecord record;
+        while ((record = buffer.poll()) != null) {
+            target.publish(record);
+            writtenCount++;
+        }
+        notifyAll();
+        long dropped = unreportedDropCount.getAndSet(0);
+        if (dropped > 0) {
+            target.publish(new LogRecord(Level.WARNING,
+                    dropped + " log record(s) were dropped because the log buffer was full."));
+        }
+    }
+}
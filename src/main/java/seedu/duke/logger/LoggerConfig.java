@@ -2,6 +2,7 @@ package seedu.duke.logger;
 
 import java.io.IOException;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -14,16 +15,33 @@ public class LoggerConfig {
      */
     static final String LOG_FILE_PATH = "financeproplus.log";
     static final String ROOT_NAME = "seedu.duke";
-    public static void setup() {
+    static final String LEVEL_PROPERTY = "financeproplus.log.level";
+    static final String BUFFER_SIZE_PROPERTY = "financeproplus.log.bufferSize";
+    static final String OVERFLOW_PROPERTY = "financeproplus.log.overflow";
+    private static final Level DEFAULT_LEVEL = Level.INFO;
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Sends the application's log to {@value #LOG_FILE_PATH} through an {@link AsyncHandler}, so writing the
+     * file never delays a command. The level, buffer size and overflow policy can be set with the system
+     * properties {@value #LEVEL_PROPERTY}, {@value #BUFFER_SIZE_PROPERTY} and {@value #OVERFLOW_PROPERTY}
+     * ({@code drop} or {@code block}). Calling this again has no effect.
+     */
+    public static synchronized void setup() {
         Logger appLogger = Logger.getLogger(ROOT_NAME);
+        for (Handler handler : appLogger.getHandlers()) {
+            if (handler instanceof AsyncHandler) {
+                return;
+            }
+        }
         appLogger.setUseParentHandlers(false);
 
         try {
             FileHandler fileHandler = new FileHandler(LOG_FILE_PATH, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            appLogger.addHandler(fileHandler);
-            appLogger.setLevel(Level.ALL);
+            appLogger.addHandler(new AsyncHandler(fileHandler, getBufferSize(), getOverflowPolicy()));
+            appLogger.setLevel(getLevel());
 
             Logger.getLogger("seedu.duke").info("Logging has been set up successfully.");
 
@@ -32,4 +50,26 @@ public class LoggerConfig {
                     .log(Level.SEVERE, "Error setting up logger.", e);
         }
     }
+
+    static Level getLevel() {
+        try {
+            return Level.parse(System.getProperty(LEVEL_PROPERTY, DEFAULT_LEVEL.getName()).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_LEVEL;
+        }
+    }
+
+    static int getBufferSize() {
+        try {
+            int bufferSize = Integer.parseInt(System.getProperty(BUFFER_SIZE_PROPERTY, ""));
+            return bufferSize > 0 ? bufferSize : DEFAULT_BUFFER_SIZE;
+        } catch (NumberFormatException e) {
+            return DEFAULT_BUFFER_SIZE;
+        }
+    }
+
+    static AsyncHandler.OverflowPolicy getOverflowPolicy() {
+        String policy = System.getProperty(OVERFLOW_PROPERTY, "");
+        return policy.equalsIgnoreCase("block") ? AsyncHandler.OverflowPolicy.BLOCK : AsyncHandler.OverflowPolicy.DROP;
+    }
 }
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.time.LocalTime;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
@@ -109,6 +110,22 @@ public class Meeting {
         return date;
     }
 
+    public String getClient() {
+        return client;
+    }
+
+    public String getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the date and start time of the meeting.
+     */
+    public LocalDateTime getStartDateTime() {
+        return LocalDateTime.of(LocalDate.parse(date, DateTimeFormatter.ofPattern("dd-MM-yyyy")),
+                LocalTime.parse(startTime, DateTimeFormatter.ofPattern("HH:mm")));
+    }
+
     /**
      * Parses meeting details from a string into a map of key-value pairs.
      *
@@ -2,34 +2,45 @@ package seedu.duke.meeting;
 
 import seedu.duke.container.ListContainer;
 import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.history.Change;
+import seedu.duke.history.ChangeJournal;
+import seedu.duke.reminder.ReminderScheduler;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 
+/**
+ * Represents a list of meetings.
+ * The list is copy-on-write: writers publish a new immutable snapshot, so readers never need a lock.
+ */
 public class MeetingList implements ListContainer {
     private static final Logger logger = Logger.getLogger(MeetingList.class.getName());
-    private ArrayList<Meeting> meetings;
+    private volatile List<Meeting> meetings;
 
     public MeetingList() {
-        this.meetings = new ArrayList<>();
+        this.meetings = List.of();
         assert meetings != null : "MeetingList should not be null after initialization";
     }
 
     @Override
-    public void addItem(String arguments) throws FinanceProPlusException {
+    public synchronized void addItem(String arguments) throws FinanceProPlusException {
         Meeting meeting = new Meeting(arguments);
         assert meeting != null : "Meeting to be added should not be null";
         assert meetings != null : "MeetingList should not be null when adding an item";
         int oldSize = meetings.size();
-        meetings.add(meeting);
+        insertAt(oldSize, meeting);
+        ChangeJournal.record(Change.of(() -> removeAt(oldSize), () -> insertAt(oldSize, meeting)));
         assert meetings.size() == oldSize + 1: "MeetingList size should increase by 1 after adding an item";
         System.out.println("Noted. I've added this meeting:");
         System.out.println(meeting.toString());
-        logger.info("Successfully added new meeting: " + meeting.getTitle());
+        logger.info(() -> "Successfully added new meeting: " + meeting.getTitle());
     }
 
     @Override
@@ -38,22 +49,24 @@ public class MeetingList implements ListContainer {
     }
 
     @Override
-    public void deleteItem(String arguments) throws FinanceProPlusException {
+    public synchronized void deleteItem(String arguments) throws FinanceProPlusException {
         if (meetings.size() == 0) {
             System.out.println("No meetings to delete.");
             return;
         }
         int oldSize = meetings.size();
         int index = checkDeleteIndex(arguments);
-        Meeting removedMeeting = meetings.remove(index);
+        Meeting removedMeeting = removeAt(index);
+        ChangeJournal.record(Change.of(() -> insertAt(index, removedMeeting), () -> removeAt(index)));
         assert meetings.size() == oldSize - 1 : "Meeting list size should decrease by 1 after deleting a meeting";
         System.out.println("Noted. I've removed this meeting:");
         System.out.println(removedMeeting.toString());
-        logger.info("Successfully deleted meeting: " + removedMeeting.getTitle());
+        logger.info(() -> "Successfully deleted meeting: " + removedMeeting.getTitle());
     }
 
     @Override
     public void listItems() throws FinanceProPlusException {
+        List<Meeting> meetings = this.meetings;
         if (meetings.size() == 0) {
             System.out.println("No meetings found.");
         } else {
@@ -75,9 +88,44 @@ public class MeetingList implements ListContainer {
         } catch (NumberFormatException e) {
             throw new FinanceProPlusException("Invalid input. Please provide a valid meeting index to delete.");
         }
-        logger.fine("Validated delete index: " + index);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Validated delete index: " + index);
+        }
         return index;
     }
+
+    private synchronized void insertAt(int index, Meeting meeting) {
+        List<Meeting> updated = new ArrayList<>(meetings);
+        updated.add(index, meeting);
+        meetings = Collections.unmodifiableList(updated);
+        scheduleReminder(meeting);
+    }
+
+    private synchronized Meeting removeAt(int index) {
+        List<Meeting> updated = new ArrayList<>(meetings);
+        Meeting removedMeeting = updated.remove(index);
+        meetings = Collections.unmodifiableList(updated);
+        ReminderScheduler scheduler = ReminderScheduler.getInstance();
+        if (scheduler != null) {
+            scheduler.cancel(removedMeeting);
+        }
+        return removedMeeting;
+    }
+
+    /**
+     * Reminds of the meeting {@value ReminderScheduler#MEETING_LEAD_HOURS} hours before it starts, if reminders are
+     * enabled.
+     */
+    private static void scheduleReminder(Meeting meeting) {
+        ReminderScheduler scheduler = ReminderScheduler.getInstance();
+        if (scheduler == null) {
+            return;
+        }
+        LocalDateTime start = meeting.getStartDateTime();
+        scheduler.schedule(meeting, start.minusHours(ReminderScheduler.MEETING_LEAD_HOURS), start,
+                () -> "Meeting " + meeting.getTitle() + " with " + meeting.getClient() + " on " + meeting.getDate()
+                        + " at " + meeting.getStartTime() + ".");
+    }
     
     /**
      * Converts all meetings to storage format.
@@ -98,9 +146,16 @@ public class MeetingList implements ListContainer {
      * @param lines List of strings in storage format.
      * @throws FinanceProPlusException If any meeting data is invalid.
      */
-    public void loadFromStorage(List<String> lines) throws FinanceProPlusException {
+    public synchronized void loadFromStorage(List<String> lines) throws FinanceProPlusException {
+        List<Meeting> updated = new ArrayList<>(meetings);
+        List<Meeting> loaded = new ArrayList<>();
         for (String line : lines) {
-            meetings.add(new Meeting(line));
+            loaded.add(new Meeting(line));
+        }
+        updated.addAll(loaded);
+        meetings = Collections.unmodifiableList(updated);
+        for (Meeting meeting : loaded) {
+            scheduleReminder(meeting);
         }
     }
 
@@ -119,6 +174,10 @@ public class MeetingList implements ListContainer {
     }
 
 
+    public int getSize() {
+        return meetings.size();
+    }
+
     /**
      * Lists meetings scheduled in the next 7 days.
      */
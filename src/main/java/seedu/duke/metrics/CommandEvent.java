@@ -0,0 +1,56 @@
+package seedu.duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import seedu.duke.command.Command;
+import seedu.duke.metrics.CommandMetrics.Phase;
+
+/**
+ * Flight Recorder event for one phase (parse or execute) of a command.
+ * Costs next to nothing unless a recording with this event enabled is running.
+ */
+@Name("seedu.duke.Command")
+@Label("Command")
+@Category({"FinanceProPlus", "Commands"})
+@Description("Parsing or executing one command")
+public class CommandEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Command Type")
+    String commandType;
+
+    @Label("Subtype")
+    String subtype;
+
+    /**
+     * Creates the event and starts timing it.
+     *
+     * @param phase The phase being timed.
+     * @return The started event.
+     */
+    public static CommandEvent start(Phase phase) {
+        CommandEvent event = new CommandEvent();
+        event.phase = phase.name().toLowerCase();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing and commits the event if it is enabled.
+     *
+     * @param command The command of the phase, or null if the input could not be parsed.
+     */
+    public void finish(Command command) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        commandType = command == null ? CommandMetrics.INVALID_COMMAND : command.getClass().getSimpleName();
+        subtype = command == null ? null : command.getSubtype();
+        commit();
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.duke.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects how long each phase of each kind of command takes.
+ * The timings are kept for the lifetime of the process and shared by all sessions.
+ */
+public class CommandMetrics {
+    /** The label used for input that could not be parsed into a command. */
+    public static final String INVALID_COMMAND = "(invalid)";
+    private static final String ROW_FORMAT = "%-32s %-8s %8s %10s %10s %10s %10s";
+    private static final Map<String, Map<Phase, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * The phases a command goes through in the main loop.
+     * A command prints its result while it executes, so printing is part of {@link #EXECUTE}.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE
+    }
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Records how long one phase of a command took.
+     *
+     * @param commandLabel The kind of command, see {@code Command.getLabel()}.
+     * @param phase        The phase that was timed.
+     * @param nanos        The duration in nanoseconds.
+     */
+    public static void record(String commandLabel, Phase phase, long nanos) {
+        histograms.computeIfAbsent(commandLabel, label -> newPhaseMap()).get(phase).record(nanos);
+    }
+
+    private static Map<Phase, LatencyHistogram> newPhaseMap() {
+        Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+        return phases;
+    }
+
+    /**
+     * Returns the histogram of one phase of one kind of command.
+     *
+     * @return The histogram, or null if that command was never recorded.
+     */
+    public static LatencyHistogram getHistogram(String commandLabel, Phase phase) {
+        Map<Phase, LatencyHistogram> phases = histograms.get(commandLabel);
+        return phases == null ? null : phases.get(phase);
+    }
+
+    /**
+     * Returns a table of the percentiles of every recorded phase, one line per command and phase.
+     *
+     * @return The lines of the table, starting with its header.
+     */
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(ROW_FORMAT, "Command", "Phase", "Count", "p50", "p95", "p99", "Max"));
+        for (Map.Entry<String, Map<Phase, LatencyHistogram>> entry : new TreeMap<>(histograms).entrySet()) {
+            for (Map.Entry<Phase, LatencyHistogram> phase : entry.getValue().entrySet()) {
+                LatencyHistogram histogram = phase.getValue();
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                lines.add(String.format(ROW_FORMAT, entry.getKey(), phase.getKey().name().toLowerCase(),
+                        histogram.getCount(), formatNanos(histogram.getPercentile(50)),
+                        formatNanos(histogram.getPercentile(95)), formatNanos(histogram.getPercentile(99)),
+                        formatNanos(histogram.getMax())));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Writes {@link #report()} to the given file, replacing its content.
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void dumpTo(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(file, report());
+    }
+
+    public static boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    /**
+     * Discards everything recorded so far.
+     */
+    public static void reset() {
+        histograms.clear();
+    }
+
+    public static String formatNanos(long nanos) {
+        if (nanos < 1_000_000) {
+            return String.format("%.1fus", nanos / 1_000.0);
+        }
+        if (nanos < 1_000_000_000) {
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        }
+        return String.format("%.2fs", nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for building or repairing a lookup index.
+ */
+@Name("seedu.duke.IndexRebuild")
+@Label("Index Rebuild")
+@Category({"FinanceProPlus", "Indexes"})
+@Description("Building or repairing a lookup index")
+public class IndexRebuildEvent extends Event {
+    @Label("Index")
+    String index;
+
+    @Label("Reason")
+    String reason;
+
+    @Label("Entries Scanned")
+    long entries;
+
+    /**
+     * Creates the event and starts timing it.
+     *
+     * @param index  The name of the index.
+     * @param reason Why the index is being rebuilt.
+     * @return The started event.
+     */
+    public static IndexRebuildEvent start(String index, String reason) {
+        IndexRebuildEvent event = new IndexRebuildEvent();
+        event.index = index;
+        event.reason = reason;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing and commits the event if it is enabled.
+     *
+     * @param entries The number of entries scanned.
+     */
+    public void finish(long entries) {
+        end();
+        if (shouldCommit()) {
+            this.entries = entries;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package seedu.duke.metrics;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the heap footprint of object graphs, assuming a 64-bit JVM with compressed references.
+ * The application's own classes are walked field by field; JDK strings, numbers, dates and collections use
+ * fixed estimates of their layout, since their internals cannot be inspected. Direct buffers count only their
+ * object on the heap, not the memory they hold outside it. Objects are only counted once per
+ * estimator, so measuring several roots in turn charges shared objects to the first root that reaches them.
+ */
+public class MemoryEstimator {
+    private static final int HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final String APPLICATION_PACKAGE = "seedu.duke";
+    private static final String IMMUTABLE_COLLECTIONS = "java.util.ImmutableCollections";
+
+    private final Set<Object> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * The estimated number of objects and bytes of one measurement.
+     */
+    public static class Footprint {
+        private final long objects;
+        private final long bytes;
+
+        Footprint(long objects, long bytes) {
+            this.objects = objects;
+            this.bytes = bytes;
+        }
+
+        public long getObjects() {
+            return objects;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+    }
+
+    /**
+     * Estimates the objects reachable from the root that no earlier measurement has counted.
+     * The caller must make sure the graph is not modified while it is measured.
+     *
+     * @param root The object to measure.
+     * @return The estimated footprint.
+     */
+    public Footprint measure(Object root) {
+        return measureAll(List.of(root));
+    }
+
+    /**
+     * Estimates the objects reachable from any of the roots that no earlier measurement has counted.
+     * The collection holding the roots is not counted itself.
+     *
+     * @param roots The objects to measure together.
+     * @return The estimated footprint.
+     */
+    public Footprint measureAll(Collection<?> roots) {
+        long objects = 0;
+        long bytes = 0;
+        Deque<Object> pending = new ArrayDeque<>();
+        for (Object root : roots) {
+            push(pending, root);
+        }
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            objects++;
+            bytes += sizeOf(object, pending);
+        }
+        return new Footprint(objects, bytes);
+    }
+
+    private void push(Deque<Object> pending, Object object) {
+        if (object == null || object instanceof Enum || object instanceof Class) {
+            return;
+        }
+        if (counted.add(object)) {
+            pending.push(object);
+        }
+    }
+
+    /**
+     * Returns the size of the object itself and queues the objects it references that are worth walking.
+     */
+    private long sizeOf(Object object, Deque<Object> pending) {
+        Class<?> type = object.getClass();
+        if (object instanceof String) {
+            String string = (String) object;
+            boolean isLatin1 = string.chars().allMatch(c -> c <= 0xFF);
+            return align(HEADER + 12) + align(ARRAY_HEADER + (long) string.length() * (isLatin1 ? 1 : 2));
+        }
+        if (object instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) object;
+            long size = align(HEADER + 20);
+            if (decimal.precision() > 18) {
+                int words = (decimal.unscaledValue().bitLength() + 31) / 32;
+                size += align(HEADER + 28) + align(ARRAY_HEADER + 4L * words);
+            }
+            return size;
+        }
+        if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+            return 16;
+        }
+        if (object instanceof TemporalAccessor) {
+            return 24;
+        }
+        if (object instanceof Buffer) {
+            Buffer buffer = (Buffer) object;
+            long size = align(HEADER + 36);
+            if (buffer.isDirect()) {
+                return size;
+            }
+            return size + align(ARRAY_HEADER + (long) buffer.capacity() * elementSize(buffer));
+        }
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            for (Object element : collection) {
+                push(pending, element);
+            }
+            return collectionSize(collection);
+        }
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                push(pending, entry.getKey());
+                push(pending, entry.getValue());
+            }
+            return mapSize(map.size());
+        }
+        if (type.isArray()) {
+            return arraySize(object, pending);
+        }
+        if (!type.getName().startsWith(APPLICATION_PACKAGE)) {
+            return align(HEADER + 4 * REFERENCE);
+        }
+        return fieldsSize(object, pending);
+    }
+
+    private long collectionSize(Collection<?> collection) {
+        long backingArray = align(ARRAY_HEADER + (long) REFERENCE * collection.size());
+        if (collection instanceof Set) {
+            return align(HEADER + REFERENCE) + mapSize(collection.size());
+        }
+        if (collection.getClass().getName().startsWith(IMMUTABLE_COLLECTIONS)) {
+            // List.of and List.copyOf: one or two items sit in the list's own fields, more in a single array.
+            return collection.size() <= 2 ? align(HEADER + 2 * REFERENCE) : align(HEADER + REFERENCE) + backingArray;
+        }
+        // The list itself plus, for copy-on-write snapshots, the unmodifiable wrapper around it.
+        return align(HEADER + 12) + align(HEADER + 2 * REFERENCE) + backingArray;
+    }
+
+    /**
+     * Returns the size of a hash map with its default load factor of 0.75 and one node per entry.
+     */
+    private long mapSize(int size) {
+        long map = align(HEADER + 36);
+        if (size == 0) {
+            return map;
+        }
+        long capacity = Long.highestOneBit((long) Math.ceil(size / 0.75) * 2 - 1);
+        return map + align(ARRAY_HEADER + REFERENCE * capacity) + (long) size * align(HEADER + 4 + 3 * REFERENCE);
+    }
+
+    private long arraySize(Object array, Deque<Object> pending) {
+        int length = Array.getLength(array);
+        Class<?> componentType = array.getClass().getComponentType();
+        if (!componentType.isPrimitive()) {
+            for (int i = 0; i < length; i++) {
+                push(pending, Array.get(array, i));
+            }
+        }
+        return align(ARRAY_HEADER + (long) length * fieldSize(componentType));
+    }
+
+    private long fieldsSize(Object object, Deque<Object> pending) {
+        long size = HEADER;
+        for (Class<?> type = object.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                size += fieldSize(field.getType());
+                if (!field.getType().isPrimitive() && field.trySetAccessible()) {
+                    try {
+                        push(pending, field.get(object));
+                    } catch (IllegalAccessException e) {
+                        // Not reachable after a successful trySetAccessible; the field is simply not walked.
+                    }
+                }
+            }
+        }
+        return align(size);
+    }
+
+    private static long fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE;
+    }
+
+    private static long elementSize(Buffer buffer) {
+        if (buffer instanceof ByteBuffer) {
+            return 1;
+        }
+        if (buffer instanceof CharBuffer || buffer instanceof ShortBuffer) {
+            return 2;
+        }
+        if (buffer instanceof IntBuffer || buffer instanceof FloatBuffer) {
+            return 4;
+        }
+        return 8;
+    }
+
+    private static long align(long size) {
+        return (size + 7) / 8 * 8;
+    }
+
+    /**
+     * Formats a number of bytes with a binary unit, e.g. {@code 1.5 MiB}.
+     */
+    public static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KiB", bytes / 1024.0);
+        }
+        if (bytes < 1024L * 1024 * 1024) {
+            return String.format("%.1f MiB", bytes / (1024.0 * 1024));
+        }
+        return String.format("%.2f GiB", bytes / (1024.0 * 1024 * 1024));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.duke.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records how long each phase of startup takes.
+ * Phases are timed by passing the start of the phase to {@link #record(String, long)}, which returns the current
+ * time so it can start the next phase. Recording a phase again adds to it, so work repeated per client (e.g.
+ * reading its to-do file) shows up as one line with a count.
+ */
+public class StartupTimeline {
+    private final long startNanos;
+    private final long jvmUptimeMillis;
+    private final Map<String, long[]> phases = new LinkedHashMap<>();
+
+    public StartupTimeline() {
+        this.startNanos = System.nanoTime();
+        this.jvmUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Adds the time since {@code phaseStartNanos} to the given phase.
+     *
+     * @param phase           The name of the phase.
+     * @param phaseStartNanos When the phase started, from {@link System#nanoTime()}.
+     * @return The current {@link System#nanoTime()}, i.e. the start of the next phase.
+     */
+    public long record(String phase, long phaseStartNanos) {
+        long now = System.nanoTime();
+        long[] totals = phases.computeIfAbsent(phase, name -> new long[2]);
+        totals[0] += now - phaseStartNanos;
+        totals[1]++;
+        return now;
+    }
+
+    /**
+     * Returns the total time spent in the given phase.
+     *
+     * @return The duration in nanoseconds, or 0 if the phase was never recorded.
+     */
+    public long getDuration(String phase) {
+        long[] totals = phases.get(phase);
+        return totals == null ? 0 : totals[0];
+    }
+
+    /**
+     * Returns the total time of all recorded phases.
+     */
+    public long getTotal() {
+        long total = 0;
+        for (long[] totals : phases.values()) {
+            total += totals[0];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the phases in the order they first ran, with their duration, share of the total and count.
+     *
+     * @return The lines of the report.
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        long total = getTotal();
+        lines.add("Startup timeline (JVM was up for " + jvmUptimeMillis + " ms before the application started):");
+        for (Map.Entry<String, long[]> entry : phases.entrySet()) {
+            long nanos = entry.getValue()[0];
+            long count = entry.getValue()[1];
+            double share = total == 0 ? 0 : 100.0 * nanos / total;
+            String countSuffix = count > 1 ? " (x" + count + ")" : "";
+            lines.add(String.format("%10.2f ms %5.1f%%  %s%s", nanos / 1_000_000.0, share, entry.getKey(),
+                    countSuffix));
+        }
+        lines.add(String.format("%10.2f ms %5.1f%%  total", total / 1_000_000.0, 100.0));
+        return lines;
+    }
+}
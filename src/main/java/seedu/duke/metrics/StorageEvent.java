@@ -0,0 +1,55 @@
+package seedu.duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one file saved or loaded by the storage manager.
+ */
+@Name("seedu.duke.Storage")
+@Label("Storage")
+@Category({"FinanceProPlus", "Storage"})
+@Description("Saving or loading one data file")
+public class StorageEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("File")
+    String file;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Creates the event and starts timing it.
+     *
+     * @param operation Either {@code save} or {@code load}.
+     * @param file      The file, relative to the data folder.
+     * @return The started event.
+     */
+    public static StorageEvent start(String operation, String file) {
+        StorageEvent event = new StorageEvent();
+        event.operation = operation;
+        event.file = file;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing and commits the event if it is enabled.
+     *
+     * @param bytes The number of bytes saved or loaded.
+     */
+    public void finish(long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.duke.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the work done by {@code StorageManager}: files opened, bytes moved, flushes and fsyncs, saves skipped,
+ * and how long each file took to save and load.
+ * Per-client files are grouped by folder (e.g. {@code client_tasks/*}), so the table stays short on large books.
+ */
+public class StorageStats {
+    private static final String ROW_FORMAT = "%-28s %-5s %8s %10s %10s %10s %10s";
+    private static final AtomicLong filesRead = new AtomicLong();
+    private static final AtomicLong filesWritten = new AtomicLong();
+    private static final AtomicLong bytesRead = new AtomicLong();
+    private static final AtomicLong bytesWritten = new AtomicLong();
+    private static final AtomicLong flushes = new AtomicLong();
+    private static final AtomicLong fsyncs = new AtomicLong();
+    private static final AtomicLong savesSkipped = new AtomicLong();
+    private static final Map<String, LatencyHistogram> saveDurations = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> loadDurations = new ConcurrentHashMap<>();
+
+    private StorageStats() {
+    }
+
+    /**
+     * Records one file written.
+     *
+     * @param file  The file, relative to the storage folder.
+     * @param bytes The number of bytes written.
+     * @param nanos How long opening, writing and closing the file took.
+     */
+    public static void recordSave(String file, long bytes, long nanos) {
+        filesWritten.incrementAndGet();
+        bytesWritten.addAndGet(bytes);
+        saveDurations.computeIfAbsent(groupOf(file), group -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Records one file read.
+     *
+     * @param file  The file, relative to the storage folder.
+     * @param bytes The number of bytes read.
+     * @param nanos How long reading the file took.
+     */
+    public static void recordLoad(String file, long bytes, long nanos) {
+        filesRead.incrementAndGet();
+        bytesRead.addAndGet(bytes);
+        loadDurations.computeIfAbsent(groupOf(file), group -> new LatencyHistogram()).record(nanos);
+    }
+
+    public static void recordFlush() {
+        flushes.incrementAndGet();
+    }
+
+    public static void recordFsync() {
+        fsyncs.incrementAndGet();
+    }
+
+    /**
+     * Records that saving all data was skipped, e.g. because a transaction is open.
+     */
+    public static void recordSkippedSave() {
+        savesSkipped.incrementAndGet();
+    }
+
+    public static long getFilesOpened() {
+        return filesRead.get() + filesWritten.get();
+    }
+
+    public static long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    public static long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    public static long getFlushes() {
+        return flushes.get();
+    }
+
+    public static long getFsyncs() {
+        return fsyncs.get();
+    }
+
+    public static long getSavesSkipped() {
+        return savesSkipped.get();
+    }
+
+    /**
+     * Returns a one-line summary of the counters, used in the log at shutdown.
+     */
+    public static String summary() {
+        return String.format("Storage: %d files opened (%d read, %d written), %d bytes read, %d bytes written, "
+                + "%d flushes, %d fsyncs, %d saves skipped", getFilesOpened(), filesRead.get(), filesWritten.get(),
+                getBytesRead(), getBytesWritten(), getFlushes(), getFsyncs(), getSavesSkipped());
+    }
+
+    /**
+     * Returns the counters followed by a table of save and load durations per file.
+     *
+     * @return The lines of the report.
+     */
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Files opened:  " + getFilesOpened() + " (" + filesRead.get() + " read, "
+                + filesWritten.get() + " written)");
+        lines.add("Bytes read:    " + getBytesRead());
+        lines.add("Bytes written: " + getBytesWritten());
+        lines.add("Flushes:       " + getFlushes() + ", fsyncs: " + getFsyncs());
+        lines.add("Saves skipped: " + getSavesSkipped());
+        lines.add(String.format(ROW_FORMAT, "File", "Op", "Count", "p50", "p95", "p99", "Max"));
+        addRows(lines, "save", saveDurations);
+        addRows(lines, "load", loadDurations);
+        return lines;
+    }
+
+    private static void addRows(List<String> lines, String operation, Map<String, LatencyHistogram> durations) {
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(durations).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            lines.add(String.format(ROW_FORMAT, entry.getKey(), operation, histogram.getCount(),
+                    CommandMetrics.formatNanos(histogram.getPercentile(50)),
+                    CommandMetrics.formatNanos(histogram.getPercentile(95)),
+                    CommandMetrics.formatNanos(histogram.getPercentile(99)),
+                    CommandMetrics.formatNanos(histogram.getMax())));
+        }
+    }
+
+    /**
+     * Discards everything recorded so far.
+     */
+    public static void reset() {
+        filesRead.set(0);
+        filesWritten.set(0);
+        bytesRead.set(0);
+        bytesWritten.set(0);
+        flushes.set(0);
+        fsyncs.set(0);
+        savesSkipped.set(0);
+        saveDurations.clear();
+        loadDurations.clear();
+    }
+
+    static String groupOf(String file) {
+        int separator = file.lastIndexOf('/');
+        return separator < 0 ? file : file.substring(0, separator) + "/*";
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.duke.parser;
+
+import seedu.duke.command.ForecastPremiumCommand;
+import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.policy.PremiumForecast;
+
+public class ForecastParser extends Parser {
+    private static final String FORECAST_FORMAT = "Invalid forecast command. Please use 'forecast premium [months/N]'.";
+    private static final int DEFAULT_MONTHS = 12;
+    private final int months;
+
+    /**
+     * Parses the arguments of {@code forecast premium [months/N]}.
+     *
+     * @param commandArgs The text after {@code forecast}.
+     * @throws FinanceProPlusException If the subtype is not {@code premium} or the number of months is invalid.
+     */
+    public ForecastParser(String commandArgs) throws FinanceProPlusException {
+        String[] parts = commandArgs.trim().split("\\s+", 2);
+        if (!parts[0].equalsIgnoreCase("premium")) {
+            throw new FinanceProPlusException(FORECAST_FORMAT);
+        }
+        this.months = parts.length > 1 ? parseMonths(parts[1].trim()) : DEFAULT_MONTHS;
+    }
+
+    private static int parseMonths(String argument) throws FinanceProPlusException {
+        String invalidMonths = "Invalid number of months. Please give a whole number from 1 to "
+                + PremiumForecast.MAX_MONTHS + ", e.g. months/12.";
+        if (!argument.startsWith("months/")) {
+            throw new FinanceProPlusException(FORECAST_FORMAT);
+        }
+        try {
+            int months = Integer.parseInt(argument.substring("months/".length()).trim());
+            if (months < 1 || months > PremiumForecast.MAX_MONTHS) {
+                throw new FinanceProPlusException(invalidMonths);
+            }
+            return months;
+        } catch (NumberFormatException e) {
+            throw new FinanceProPlusException(invalidMonths);
+        }
+    }
+
+    @Override
+    protected ForecastPremiumCommand executeAndCreateCommand() {
+        return new ForecastPremiumCommand(months);
+    }
+}
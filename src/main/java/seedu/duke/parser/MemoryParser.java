@@ -0,0 +1,10 @@
+package seedu.duke.parser;
+
+import seedu.duke.command.MemoryCommand;
+
+public class MemoryParser extends Parser {
+    @Override
+    protected MemoryCommand executeAndCreateCommand() {
+        return new MemoryCommand();
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.duke.parser;
+
+import seedu.duke.command.MetricsCommand;
+import seedu.duke.exception.FinanceProPlusException;
+
+public class MetricsParser extends Parser {
+    private final String commandSubtype;
+
+    public MetricsParser(String commandArgs) throws FinanceProPlusException {
+        if (!commandArgs.isEmpty() && !commandArgs.equals("storage")) {
+            throw new FinanceProPlusException("Invalid metrics command. Please use 'metrics' or 'metrics storage'.");
+        }
+        this.commandSubtype = commandArgs;
+    }
+
+    @Override
+    protected MetricsCommand executeAndCreateCommand() {
+        return new MetricsCommand(commandSubtype);
+    }
+}
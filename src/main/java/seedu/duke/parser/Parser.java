@@ -31,6 +31,22 @@ public class Parser {
             return new MeetingParser(commandType, commandArgs);
         case "task":
             return new TaskParser(commandType, commandArgs);
+        case "begin":
+        case "commit":
+        case "rollback":
+            return new TransactionParser(commandType, commandArgs);
+        case "undo":
+        case "redo":
+            return new UndoParser(commandType, commandArgs);
+        case "metrics":
+            return new MetricsParser(commandArgs.trim());
+        case "forecast":
+            return new ForecastParser(commandArgs);
+        case "memory":
+            if(!commandArgs.equals("")) {
+                throw new  FinanceProPlusException("Memory Command does not have any arguments");
+            }
+            return new MemoryParser();
         case "help":
             if(!commandArgs.equals("")) {
                 throw new  FinanceProPlusException("Help Command does not have any arguments");
@@ -0,0 +1,35 @@
+package seedu.duke.parser;
+
+import seedu.duke.command.BeginCommand;
+import seedu.duke.command.Command;
+import seedu.duke.command.CommitCommand;
+import seedu.duke.command.RollbackCommand;
+import seedu.duke.exception.FinanceProPlusException;
+
+public class TransactionParser extends Parser {
+    private String commandType;
+
+    public TransactionParser(String type, String commandArgs) throws FinanceProPlusException {
+        assert type.equals("begin") || type.equals("commit") || type.equals("rollback")
+                : "TransactionParser can only be used for transaction commands";
+        if (!commandArgs.isEmpty()) {
+            throw new FinanceProPlusException("The '" + type + "' command does not have any arguments");
+        }
+        this.commandType = type;
+    }
+
+    @Override
+    protected Command executeAndCreateCommand() throws FinanceProPlusException {
+        switch (commandType) {
+        case "begin":
+            return new BeginCommand();
+        case "commit":
+            return new CommitCommand();
+        case "rollback":
+            return new RollbackCommand();
+        default:
+            throw new FinanceProPlusException("Invalid transaction command. Please use one of: "
+                    + "'begin', 'commit' or 'rollback'.");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.duke.parser;
+
+import seedu.duke.command.Command;
+import seedu.duke.command.RedoCommand;
+import seedu.duke.command.UndoCommand;
+import seedu.duke.exception.FinanceProPlusException;
+
+public class UndoParser extends Parser {
+    private String commandType;
+
+    public UndoParser(String type, String commandArgs) throws FinanceProPlusException {
+        assert type.equals("undo") || type.equals("redo") : "UndoParser can only be used for undo and redo";
+        if (!commandArgs.isEmpty()) {
+            throw new FinanceProPlusException("The '" + type + "' command does not have any arguments");
+        }
+        this.commandType = type;
+    }
+
+    @Override
+    protected Command executeAndCreateCommand() throws FinanceProPlusException {
+        switch (commandType) {
+        case "undo":
+            return new UndoCommand();
+        case "redo":
+            return new RedoCommand();
+        default:
+            throw new FinanceProPlusException("Invalid command. Please use 'undo' or 'redo'.");
+        }
+    }
+}
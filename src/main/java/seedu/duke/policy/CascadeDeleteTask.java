@@ -0,0 +1,98 @@
+package seedu.duke.policy;
+
+import seedu.duke.client.Client;
+import seedu.duke.history.ChangeJournal;
+import seedu.duke.history.ChangeSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Removes the contracts for a deleted catalog policy from a range of clients, splitting the range in halves on the
+ * fork-join pool until each part is at most {@value #LEAF_SIZE} clients.
+ * Each part records its changes separately, as the change journal is per thread, and reports the clients it changed
+ * instead of printing, as console output may be bound to the thread of the command. Parts are merged in client
+ * order, so the result is the same as removing the contracts one client after another.
+ *
+ * <p>A task finishes only once both its halves have, even if one of them fails, so {@link #getChanges()} can be
+ * read after {@link #invoke()} returns or throws and then holds every change that was made.
+ */
+class CascadeDeleteTask extends RecursiveTask<List<String>> {
+    static final int LEAF_SIZE = 2048;
+    private static final long serialVersionUID = 1L;
+    private final transient List<Client> clients;
+    private final int from;
+    private final int to;
+    private final transient Policy basePolicy;
+    private final transient ChangeSet changes = new ChangeSet();
+    private CascadeDeleteTask left;
+    private CascadeDeleteTask right;
+
+    /**
+     * Creates a task for all the given clients.
+     *
+     * @param clients    A snapshot of the client list.
+     * @param basePolicy The deleted catalog policy.
+     */
+    CascadeDeleteTask(List<Client> clients, Policy basePolicy) {
+        this(clients, 0, clients.size(), basePolicy);
+    }
+
+    private CascadeDeleteTask(List<Client> clients, int from, int to, Policy basePolicy) {
+        this.clients = clients;
+        this.from = from;
+        this.to = to;
+        this.basePolicy = basePolicy;
+    }
+
+    /**
+     * Returns the names of the clients whose contract was removed, in client order.
+     */
+    @Override
+    protected List<String> compute() {
+        if (to - from <= LEAF_SIZE) {
+            List<String> clientNames = new ArrayList<>();
+            ChangeJournal.recordSeparately(changes, () -> {
+                for (int i = from; i < to; i++) {
+                    Client client = clients.get(i);
+                    if (client.removePolicyFor(basePolicy)) {
+                        clientNames.add(client.getName());
+                    }
+                }
+            });
+            return clientNames;
+        }
+        int middle = (from + to) >>> 1;
+        left = new CascadeDeleteTask(clients, from, middle, basePolicy);
+        right = new CascadeDeleteTask(clients, middle, to, basePolicy);
+        left.fork();
+        List<String> rightNames;
+        try {
+            rightNames = right.compute();
+        } finally {
+            left.quietlyJoin();
+        }
+        List<String> clientNames = left.join();
+        clientNames.addAll(rightNames);
+        return clientNames;
+    }
+
+    /**
+     * Returns the changes made by this task and the parts it was split into, in client order.
+     */
+    ChangeSet getChanges() {
+        ChangeSet all = new ChangeSet();
+        addChangesTo(all);
+        return all;
+    }
+
+    private void addChangesTo(ChangeSet all) {
+        if (left == null) {
+            all.addAll(changes);
+            return;
+        }
+        left.addChangesTo(all);
+        right.addChangesTo(all);
+    }
+}
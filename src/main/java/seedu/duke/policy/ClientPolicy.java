@@ -1,23 +1,38 @@
 package seedu.duke.policy;
 
 import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.history.Change;
+import seedu.duke.history.ChangeJournal;
+import seedu.duke.reminder.ReminderScheduler;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.format.DateTimeFormatter;
 
 
+/**
+ * Represents a client's contract for one of the catalog policies.
+ * The contract refers to its catalog {@link Policy} rather than keeping its own copy of the name, so all contracts
+ * for a policy share one name and always show the catalog's current one.
+ * When the {@link ContractStore} is enabled, the dates and premium live in a row of the store instead of in this
+ * object's fields. The contract counts what holds on to it, i.e. the contract lists it is in and the recorded
+ * changes that can put it back, and frees its row once none is left.
+ */
 public class ClientPolicy extends Policy {
     public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-    private LocalDate startDate;
-    private LocalDate expiryDate;
-    private BigDecimal monthlyPremium;
+    private final Policy basePolicy;
+    private volatile LocalDate startDate;
+    private volatile LocalDate expiryDate;
+    private volatile BigDecimal monthlyPremium;
+    private final int row;
+    private volatile int version;
+    private int holders;
 
 
     public ClientPolicy(Policy basePolicy, LocalDate startDate, LocalDate expiryDate, BigDecimal monthlyPremium)
             throws FinanceProPlusException {
-        super(basePolicy.getName(), false);
-
         assert basePolicy != null : "Base policy cannot be null";
         assert startDate != null : "Start date cannot be null";
         assert expiryDate != null : "Expiry date cannot be null";
@@ -25,61 +40,202 @@ public class ClientPolicy extends Policy {
         assert monthlyPremium.compareTo(BigDecimal.ZERO) >= 0 : "Monthly premium must be non-negative";
         assert !startDate.isAfter(expiryDate) : "Start date must be before or equal to expiry date";
 
-        this.startDate = startDate;
-        this.expiryDate = expiryDate;
-        this.monthlyPremium = monthlyPremium;
+        this.basePolicy = basePolicy;
+        ContractStore store = ContractStore.getInstance();
+        if (store != null) {
+            this.row = store.addRow(basePolicy, startDate, expiryDate, monthlyPremium);
+        } else {
+            this.row = -1;
+            this.startDate = startDate;
+            this.expiryDate = expiryDate;
+            this.monthlyPremium = monthlyPremium;
+        }
 
-        assert this.startDate != null : "Start date was not set properly";
-        assert this.expiryDate != null : "Expiry date was not set properly";
-        assert this.monthlyPremium != null : "Monthly premium was not set properly";
+        assert getStartDate() != null : "Start date was not set properly";
+        assert getExpiryDate() != null : "Expiry date was not set properly";
+        assert getMonthlyPremium() != null : "Monthly premium was not set properly";
     }
 
     public ClientPolicy(Policy basePolicy) throws FinanceProPlusException {
-        super(basePolicy.getName(), false);
-
         assert basePolicy != null : "Base policy cannot be null";
 
-        this.startDate = null;
-        this.expiryDate = null;
-        this.monthlyPremium = null;
+        this.basePolicy = basePolicy;
+        ContractStore store = ContractStore.getInstance();
+        this.row = store != null ? store.addRow(basePolicy, null, null, null) : -1;
+    }
+
+    /**
+     * Returns the catalog policy this contract is for.
+     */
+    public Policy getBasePolicy() {
+        return basePolicy;
+    }
+
+    @Override
+    public String getName() {
+        return basePolicy.getName();
+    }
+
+    /**
+     * Counts one more holder of this contract: a contract list it is in, or a recorded change that can put it back.
+     */
+    synchronized void retain() {
+        holders++;
+    }
+
+    /**
+     * Counts one holder less. Once the last one lets go, nothing can reach the contract any more, so its row in the
+     * {@link ContractStore} is freed for the next new contract.
+     */
+    synchronized void release() {
+        assert holders > 0 : "Contract released more often than it was retained";
+        holders--;
+        ContractStore store = ContractStore.getInstance();
+        if (holders == 0 && row >= 0 && store != null) {
+            store.freeRow(row);
+        }
+    }
+
+    /**
+     * Counts this contract in {@link ContractStore} scans as belonging to the given client.
+     * Does nothing if the store is not enabled.
+     *
+     * @param clientId The id the store gave the client holding the contract.
+     */
+    public void attachTo(int clientId) {
+        if (row >= 0) {
+            ContractStore.getInstance().attach(row, clientId);
+        }
+    }
+
+    /**
+     * Stops counting this contract in {@link ContractStore} scans, e.g. when it or its client is removed.
+     */
+    public void detach() {
+        if (row >= 0) {
+            ContractStore.getInstance().detach(row);
+        }
+    }
+
+    /**
+     * Tracks this contract, held by the given client, in the {@link ReminderScheduler}, so its expiry is reminded of
+     * {@value ReminderScheduler#CONTRACT_LEAD_DAYS} days ahead. Does nothing if reminders are not enabled.
+     *
+     * @param ownerNric The NRIC of the client holding the contract.
+     */
+    public void scheduleRenewalReminder(String ownerNric) {
+        ReminderScheduler scheduler = ReminderScheduler.getInstance();
+        LocalDate expiryDate = getExpiryDate();
+        if (scheduler != null && expiryDate != null) {
+            scheduler.schedule(this, renewalRemindAt(expiryDate), renewalExpiresAt(expiryDate),
+                    () -> "Contract " + getName() + " of client " + ownerNric + " expires on "
+                            + getExpiryDate().format(DATE_FORMATTER) + ".");
+        }
+    }
+
+    /**
+     * Stops reminding of the expiry of this contract, e.g. when it or its client is removed.
+     */
+    public void cancelRenewalReminder() {
+        ReminderScheduler scheduler = ReminderScheduler.getInstance();
+        if (scheduler != null) {
+            scheduler.cancel(this);
+        }
+    }
+
+    private static LocalDateTime renewalRemindAt(LocalDate expiryDate) {
+        return expiryDate.minusDays(ReminderScheduler.CONTRACT_LEAD_DAYS).atStartOfDay();
+    }
+
+    private static LocalDateTime renewalExpiresAt(LocalDate expiryDate) {
+        return expiryDate.plusDays(1).atStartOfDay();
     }
 
     public LocalDate getStartDate() {
-        return startDate;
+        return row >= 0 ? ContractStore.getInstance().getStartDate(row) : startDate;
     }
 
     public LocalDate getExpiryDate() {
-        return expiryDate;
+        return row >= 0 ? ContractStore.getInstance().getExpiryDate(row) : expiryDate;
     }
 
     public BigDecimal getMonthlyPremium() {
-        return monthlyPremium;
+        return row >= 0 ? ContractStore.getInstance().getMonthlyPremium(row) : monthlyPremium;
+    }
+
+    /**
+     * Returns a number that changes whenever the terms of this contract change, including through undo.
+     * Terms are only changed by one command at a time, so a plain increment is enough.
+     */
+    public int getVersion() {
+        return version;
     }
 
     public void setStartDate(LocalDate startDate) {
         assert startDate != null : "Start date cannot be null";
-        if (this.expiryDate != null) {
-            assert !startDate.isAfter(this.expiryDate) : "Start date must be before or equal to expiry date";
+        LocalDate oldStartDate = getStartDate();
+        if (getExpiryDate() != null) {
+            assert !startDate.isAfter(getExpiryDate()) : "Start date must be before or equal to expiry date";
         }
-        this.startDate = startDate;
+        storeStartDate(startDate);
+        ChangeJournal.record(Change.of(() -> storeStartDate(oldStartDate), () -> storeStartDate(startDate)));
     }
 
     public void setExpiryDate(LocalDate expiryDate) {
         assert expiryDate != null : "Expiry date cannot be null";
-        if (this.startDate != null) {
-            assert !this.startDate.isAfter(expiryDate) : "Expiry date must be after or equal to start date";
+        LocalDate oldExpiryDate = getExpiryDate();
+        if (getStartDate() != null) {
+            assert !getStartDate().isAfter(expiryDate) : "Expiry date must be after or equal to start date";
         }
-        this.expiryDate = expiryDate;
+        storeExpiryDate(expiryDate);
+        ChangeJournal.record(Change.of(() -> storeExpiryDate(oldExpiryDate), () -> storeExpiryDate(expiryDate)));
     }
 
     public void setMonthlyPremium(BigDecimal monthlyPremium) {
         assert monthlyPremium != null : "Monthly premium cannot be null";
         assert monthlyPremium.compareTo(BigDecimal.ZERO) >= 0 : "Monthly premium must be non-negative";
-        this.monthlyPremium = monthlyPremium;
+        BigDecimal oldPremium = getMonthlyPremium();
+        storeMonthlyPremium(monthlyPremium);
+        ChangeJournal.record(Change.of(() -> storeMonthlyPremium(oldPremium),
+                () -> storeMonthlyPremium(monthlyPremium)));
+    }
+
+    private void storeStartDate(LocalDate startDate) {
+        if (row >= 0) {
+            ContractStore.getInstance().setStartDate(row, startDate);
+        } else {
+            this.startDate = startDate;
+        }
+        version++;
+    }
+
+    private void storeExpiryDate(LocalDate expiryDate) {
+        if (row >= 0) {
+            ContractStore.getInstance().setExpiryDate(row, expiryDate);
+        } else {
+            this.expiryDate = expiryDate;
+        }
+        version++;
+        ReminderScheduler scheduler = ReminderScheduler.getInstance();
+        if (scheduler != null && expiryDate != null) {
+            scheduler.reschedule(this, renewalRemindAt(expiryDate), renewalExpiresAt(expiryDate));
+        }
+    }
+
+    private void storeMonthlyPremium(BigDecimal monthlyPremium) {
+        if (row >= 0) {
+            ContractStore.getInstance().setMonthlyPremium(row, monthlyPremium);
+        } else {
+            this.monthlyPremium = monthlyPremium;
+        }
+        version++;
     }
 
     @Override
     public String toString() {
+        BigDecimal monthlyPremium = getMonthlyPremium();
+        LocalDate startDate = getStartDate();
+        LocalDate expiryDate = getExpiryDate();
         String premiumStr = (monthlyPremium != null) ? "$" + monthlyPremium : "Not set";
         String startStr = (startDate != null) ? startDate.toString() : "Not set";
         String expiryStr = (expiryDate != null) ? expiryDate.toString() : "Not set";
@@ -90,26 +246,29 @@ public class ClientPolicy extends Policy {
 
     public String viewDetails() {
         StringBuilder sb = new StringBuilder();
-        sb.append("Policy Name: ").append(super.getName());
+        sb.append("Policy Name: ").append(getName());
+        BigDecimal monthlyPremium = getMonthlyPremium();
+        LocalDate startDate = getStartDate();
+        LocalDate expiryDate = getExpiryDate();
         String premiumStr;
-        if (this.monthlyPremium != null) {
-            premiumStr = String.format("$%.2f", this.monthlyPremium);
+        if (monthlyPremium != null) {
+            premiumStr = "$" + monthlyPremium.setScale(2, RoundingMode.HALF_UP).toPlainString();
         } else {
             premiumStr = "Not set";
         }
         sb.append("\n    - Monthly Premium: ").append(premiumStr);
 
         String startStr;
-        if (this.startDate != null) {
-            startStr = this.startDate.format(DATE_FORMATTER);
+        if (startDate != null) {
+            startStr = startDate.format(DATE_FORMATTER);
         } else {
             startStr = "Not set";
         }
         sb.append("\n    - Start Date: ").append(startStr);
 
         String expiryStr;
-        if (this.expiryDate != null) {
-            expiryStr = this.expiryDate.format(DATE_FORMATTER);
+        if (expiryDate != null) {
+            expiryStr = expiryDate.format(DATE_FORMATTER);
         } else {
             expiryStr = "Not set";
         }
@@ -0,0 +1,260 @@
+package seedu.duke.policy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the terms of every client contract in parallel primitive columns, one row per contract: the owning client,
+ * the catalog policy, the start and expiry dates as epoch days and the monthly premium in whole cents (rounded half
+ * up).
+ * Enabled with the system property {@value #ENABLED_PROPERTY}; a {@link ClientPolicy} created while it is enabled
+ * keeps only its row number and reads and writes its terms here, so scans over all contracts touch a few arrays
+ * instead of one object graph per contract.
+ * With the system property {@value #OFF_HEAP_PROPERTY} the store is enabled as well, and its columns are kept in
+ * direct buffers outside the Java heap.
+ *
+ * <p>A row only counts in scans while its contract belongs to a client in the active client list. A removed
+ * contract keeps its row while undo or redo may still put it back; once nothing can, {@link ClientPolicy} frees the
+ * row and the next new contract reuses it. Free rows are chained through their policy id column, so the free list
+ * takes no extra memory.
+ */
+public class ContractStore {
+    public static final String ENABLED_PROPERTY = "financeproplus.contracts.columnar";
+    public static final String OFF_HEAP_PROPERTY = "financeproplus.offheap";
+    private static final int UNSET_DAY = Integer.MIN_VALUE;
+    private static final long UNSET_CENTS = Long.MIN_VALUE;
+    private static final int DETACHED = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static volatile ContractStore instance = Boolean.getBoolean(ENABLED_PROPERTY)
+            || Boolean.getBoolean(OFF_HEAP_PROPERTY) ? new ContractStore(Boolean.getBoolean(OFF_HEAP_PROPERTY)) : null;
+
+    private final boolean isOffHeap;
+    private IntBuffer clientIds;
+    private IntBuffer policyIds;
+    private IntBuffer startDays;
+    private IntBuffer expiryDays;
+    private LongBuffer premiumCents;
+    private int size;
+    private int firstFreeRow = DETACHED;
+    private int freeRowCount;
+    private final List<String> nrics = new ArrayList<>();
+    private final Map<Policy, Integer> policyIdsByPolicy = new IdentityHashMap<>();
+    private final List<Policy> policies = new ArrayList<>();
+
+    /**
+     * Receives the terms of one contract during a scan. Unset dates and premiums are not passed to visitors;
+     * contracts without them are skipped.
+     */
+    public interface Visitor {
+        void visit(int clientId, int policyId, int startDay, int expiryDay, long premiumCents);
+    }
+
+    /**
+     * Creates an empty store with its columns on the heap.
+     */
+    public ContractStore() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty store.
+     *
+     * @param isOffHeap Whether to keep the columns in direct buffers outside the Java heap.
+     */
+    public ContractStore(boolean isOffHeap) {
+        this.isOffHeap = isOffHeap;
+        clientIds = allocate(INITIAL_CAPACITY * Integer.BYTES).asIntBuffer();
+        policyIds = allocate(INITIAL_CAPACITY * Integer.BYTES).asIntBuffer();
+        startDays = allocate(INITIAL_CAPACITY * Integer.BYTES).asIntBuffer();
+        expiryDays = allocate(INITIAL_CAPACITY * Integer.BYTES).asIntBuffer();
+        premiumCents = allocate(INITIAL_CAPACITY * Long.BYTES).asLongBuffer();
+    }
+
+    /**
+     * Returns the store, or null if contracts are kept as objects.
+     */
+    public static ContractStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * Replaces the store. Contracts created before the call keep pointing at rows of the old store, so this is
+     * only meant for tests that start from an empty book.
+     *
+     * @param store The new store, or null to keep contracts as objects.
+     */
+    static void setInstance(ContractStore store) {
+        instance = store;
+    }
+
+    synchronized int addRow(Policy basePolicy, LocalDate startDate, LocalDate expiryDate, BigDecimal premium) {
+        int row;
+        if (firstFreeRow != DETACHED) {
+            row = firstFreeRow;
+            firstFreeRow = policyIds.get(row);
+            freeRowCount--;
+        } else {
+            if (size == clientIds.capacity()) {
+                int capacity = size * 2;
+                clientIds = grow(clientIds, capacity);
+                policyIds = grow(policyIds, capacity);
+                startDays = grow(startDays, capacity);
+                expiryDays = grow(expiryDays, capacity);
+                premiumCents = allocate(capacity * Long.BYTES).asLongBuffer().put(premiumCents.clear());
+            }
+            row = size++;
+        }
+        clientIds.put(row, DETACHED);
+        policyIds.put(row, policyIdsByPolicy.computeIfAbsent(basePolicy, policy -> {
+            policies.add(policy);
+            return policies.size() - 1;
+        }));
+        startDays.put(row, toDay(startDate));
+        expiryDays.put(row, toDay(expiryDate));
+        premiumCents.put(row, toCents(premium));
+        return row;
+    }
+
+    /**
+     * Gives a client an id for the client column. Each client's contract list asks once and keeps the id.
+     *
+     * @param nric The NRIC of the client.
+     * @return The new id.
+     */
+    public synchronized int registerClient(String nric) {
+        nrics.add(nric);
+        return nrics.size() - 1;
+    }
+
+    /**
+     * Returns a row to the free list for the next {@link #addRow} to reuse. Its terms can still be read until then,
+     * but it no longer counts in scans.
+     */
+    synchronized void freeRow(int row) {
+        assert row >= 0 && row < size : "Row to free must have been added";
+        clientIds.put(row, DETACHED);
+        policyIds.put(row, firstFreeRow);
+        firstFreeRow = row;
+        freeRowCount++;
+    }
+
+    /**
+     * Returns the number of rows held by contracts, i.e. not on the free list.
+     */
+    public synchronized int getRowCount() {
+        return size - freeRowCount;
+    }
+
+    synchronized void attach(int row, int clientId) {
+        clientIds.put(row, clientId);
+    }
+
+    synchronized void detach(int row) {
+        clientIds.put(row, DETACHED);
+    }
+
+    synchronized LocalDate getStartDate(int row) {
+        return toDate(startDays.get(row));
+    }
+
+    synchronized LocalDate getExpiryDate(int row) {
+        return toDate(expiryDays.get(row));
+    }
+
+    synchronized BigDecimal getMonthlyPremium(int row) {
+        long cents = premiumCents.get(row);
+        return cents == UNSET_CENTS ? null : BigDecimal.valueOf(cents, 2);
+    }
+
+    synchronized void setStartDate(int row, LocalDate startDate) {
+        startDays.put(row, toDay(startDate));
+    }
+
+    synchronized void setExpiryDate(int row, LocalDate expiryDate) {
+        expiryDays.put(row, toDay(expiryDate));
+    }
+
+    synchronized void setMonthlyPremium(int row, BigDecimal premium) {
+        premiumCents.put(row, toCents(premium));
+    }
+
+    /**
+     * Returns the NRIC of the client with the given id.
+     */
+    public synchronized String getNric(int clientId) {
+        return nrics.get(clientId);
+    }
+
+    /**
+     * Returns the catalog policy with the given id.
+     */
+    public synchronized Policy getPolicy(int policyId) {
+        return policies.get(policyId);
+    }
+
+    /**
+     * Passes the terms of every contract held by an active client to the visitor.
+     * The store is locked during the scan, so the visitor must not modify contracts.
+     *
+     * @param visitor The visitor to call for each contract.
+     */
+    public synchronized void forEach(Visitor visitor) {
+        for (int row = 0; row < size; row++) {
+            int clientId = clientIds.get(row);
+            int startDay = startDays.get(row);
+            int expiryDay = expiryDays.get(row);
+            long cents = premiumCents.get(row);
+            if (clientId != DETACHED && startDay != UNSET_DAY && expiryDay != UNSET_DAY && cents != UNSET_CENTS) {
+                visitor.visit(clientId, policyIds.get(row), startDay, expiryDay, cents);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the columns are kept outside the Java heap.
+     */
+    public boolean isOffHeap() {
+        return isOffHeap;
+    }
+
+    /**
+     * Returns the number of bytes reserved for the columns, wherever they are kept.
+     */
+    public synchronized long getReservedBytes() {
+        return (long) clientIds.capacity() * (4 * Integer.BYTES + Long.BYTES);
+    }
+
+    private ByteBuffer allocate(int bytes) {
+        ByteBuffer buffer = isOffHeap ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes);
+        return buffer.order(ByteOrder.nativeOrder());
+    }
+
+    private IntBuffer grow(IntBuffer column, int capacity) {
+        return allocate(capacity * Integer.BYTES).asIntBuffer().put(column.clear());
+    }
+
+    private static int toDay(LocalDate date) {
+        return date == null ? UNSET_DAY : Math.toIntExact(date.toEpochDay());
+    }
+
+    private static LocalDate toDate(int day) {
+        return day == UNSET_DAY ? null : LocalDate.ofEpochDay(day);
+    }
+
+    private static long toCents(BigDecimal premium) {
+        if (premium == null) {
+            return UNSET_CENTS;
+        }
+        return premium.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -38,6 +38,14 @@ public class Policy {
         assert !this.name.isEmpty() : "Policy name cannot be empty";
     }
 
+    /**
+     * Creates a policy without a name of its own, for subclasses that override {@link #getName()}, e.g. a contract,
+     * which is named after its catalog policy.
+     */
+    protected Policy() {
+        this.details = "";
+    }
+
     public static Map<String, String> parsePolicyDetails(String policyDetails) {
         assert policyDetails != null : "Policy details cannot be null";
         
@@ -71,19 +79,19 @@ public class Policy {
     @Override
     public String toString() {
         if (details.isEmpty()) {
-            return name;
+            return getName();
         }
-        return "Name: " + name + ", Details: " + details;
+        return "Name: " + getName() + ", Details: " + details;
     }
 
     public String toStorageString() {
 
-        return String.format("n/%s d/%s", name, details);
+        return String.format("n/%s d/%s", getName(), details);
     }
 
     public String[] toCSVRow() {
 
-        return new String[]{name, details};
+        return new String[]{getName(), details};
     }
 
 }
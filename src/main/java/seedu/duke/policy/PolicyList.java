@@ -1,26 +1,167 @@
 package seedu.duke.policy;
 
-import seedu.duke.client.Client;
 import seedu.duke.client.ClientList;
 import seedu.duke.container.ListContainer;
 import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.history.Change;
+import seedu.duke.history.ChangeJournal;
 
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Represents a list of policies, used both for the company catalog and for each client's contracts.
+ * The list is copy-on-write: writers publish a new immutable snapshot, so readers never need a lock.
+ * Snapshots are compact immutable lists, so an empty list is the shared {@code List.of()} and a list of one or two
+ * items is a single small object.
+ */
 public class PolicyList implements ListContainer {
-    private ArrayList<Policy> policies = new ArrayList<Policy>();
-    public void addPolicy(Policy policy) {
+    private volatile List<Policy> policies = List.of();
+    private final String ownerNric;
+    private boolean isActive;
+    private int ownerId = -1;
+
+    /**
+     * Creates an empty list for the company catalog.
+     */
+    public PolicyList() {
+        this(null);
+    }
+
+    /**
+     * Creates an empty list for the contracts of the given client.
+     * Its contracts only count in {@link ContractStore} scans, and their expiries are only reminded of, while the
+     * list is active, i.e. while the client is in the active client list.
+     *
+     * @param ownerNric The NRIC of the client holding the contracts.
+     */
+    public PolicyList(String ownerNric) {
+        this.ownerNric = ownerNric;
+    }
+
+    /**
+     * Marks the client holding these contracts as active or not, attaching or detaching all its contracts.
+     *
+     * @param isActive Whether the client is in the active client list.
+     */
+    public synchronized void setActive(boolean isActive) {
+        assert ownerNric != null : "Only a client's contract list can be activated";
+        this.isActive = isActive;
+        ContractStore store = ContractStore.getInstance();
+        if (isActive && ownerId < 0 && store != null) {
+            ownerId = store.registerClient(ownerNric);
+        }
+        for (Policy policy : policies) {
+            updateAttachment(policy, isActive);
+        }
+    }
+
+    private void updateAttachment(Policy policy, boolean isAttached) {
+        if (!(policy instanceof ClientPolicy)) {
+            return;
+        }
+        ClientPolicy contract = (ClientPolicy) policy;
+        if (isAttached) {
+            contract.attachTo(ownerId);
+            contract.scheduleRenewalReminder(ownerNric);
+        } else {
+            contract.detach();
+            contract.cancelRenewalReminder();
+        }
+    }
+
+    public synchronized void addPolicy(Policy policy) {
         assert policy != null : "Policy to add cannot be null";
         assert policies != null : "Policies list must be initialized";
         
         int sizeBefore = policies.size();
-        policies.add(policy);
+        insertAt(sizeBefore, policy);
         
         assert policies.size() == sizeBefore + 1 : "Policy was not added correctly";
+        retain(policy);
+        ChangeJournal.record(Change.of(() -> removeAt(sizeBefore), () -> insertAt(sizeBefore, policy),
+                () -> release(policy)));
     }
-    public ArrayList<Policy> getPolicyList() {
+
+    private synchronized void insertAt(int index, Policy policy) {
+        List<Policy> updated = new ArrayList<>(policies);
+        updated.add(index, policy);
+        policies = List.copyOf(updated);
+        retain(policy);
+        if (isActive) {
+            updateAttachment(policy, true);
+        }
+    }
+
+    private synchronized Policy removeAt(int index) {
+        List<Policy> updated = new ArrayList<>(policies);
+        Policy removedPolicy = updated.remove(index);
+        policies = List.copyOf(updated);
+        if (isActive) {
+            updateAttachment(removedPolicy, false);
+        }
+        release(removedPolicy);
+        return removedPolicy;
+    }
+
+    /**
+     * Counts a hold on the policy if it is a client's contract, whose row is freed once nothing holds it.
+     */
+    private static void retain(Policy policy) {
+        if (policy instanceof ClientPolicy) {
+            ((ClientPolicy) policy).retain();
+        }
+    }
+
+    private static void release(Policy policy) {
+        if (policy instanceof ClientPolicy) {
+            ((ClientPolicy) policy).release();
+        }
+    }
+
+    /**
+     * Lets go of every contract in this list, because the client holding them can no longer be reached.
+     * Contracts that no recorded change holds on to have their rows freed. The list must not be used afterwards.
+     */
+    public synchronized void releaseContracts() {
+        assert !isActive : "The contracts of an active client cannot be released";
+        for (Policy policy : policies) {
+            release(policy);
+        }
+    }
+
+    /**
+     * Removes the given policy from this list, if present.
+     *
+     * @param policy The policy to remove.
+     * @return true if the policy was found and removed, false otherwise.
+     */
+    public synchronized boolean removePolicy(Policy policy) {
+        int index = policies.indexOf(policy);
+        if (index < 0) {
+            return false;
+        }
+        removePolicyAt(index);
+        return true;
+    }
+
+    private synchronized Policy removePolicyAt(int index) {
+        Policy removedPolicy = policies.get(index);
+        retain(removedPolicy);
+        removeAt(index);
+        ChangeJournal.record(Change.of(() -> insertAt(index, removedPolicy), () -> removeAt(index),
+                () -> release(removedPolicy)));
+        return removedPolicy;
+    }
+
+    /**
+     * Returns a read-only snapshot of the policies.
+     * Later changes to this list are not reflected in the snapshot.
+     *
+     * @return The policies at the time of the call.
+     */
+    public List<Policy> getPolicyList() {
         return policies;
     }
 
@@ -43,7 +184,7 @@ public class PolicyList implements ListContainer {
     }
 
     @Override
-    public void deleteItem(String arguments) throws FinanceProPlusException {
+    public synchronized void deleteItem(String arguments) throws FinanceProPlusException {
         assert arguments != null : "Arguments cannot be null";
         assert policies != null : "Policies list must be initialized";
         
@@ -55,7 +196,7 @@ public class PolicyList implements ListContainer {
         assert index >= 0 && index < policies.size() : "Index must be within valid range";
         
         int sizeBefore = policies.size();
-        Policy removedPolicy = policies.remove(index);
+        Policy removedPolicy = removePolicyAt(index);
         
         assert removedPolicy != null : "Removed policy cannot be null";
         assert policies.size() == sizeBefore - 1 : "Policy was not removed correctly";
@@ -65,12 +206,14 @@ public class PolicyList implements ListContainer {
     }
     /**
      * Deletes a base policy and cascades the delete to all clients who have that policy.
+     * Large client lists are split into parts that are processed in parallel on the fork-join pool; the report is
+     * printed in one write once all parts are done.
      *
      * @param arguments The index of the policy to delete.
      * @param clientList The list of all clients to check for cascading deletes.
      * @throws FinanceProPlusException If the index is invalid.
      */
-    public void deleteItem(String arguments, ClientList clientList) throws FinanceProPlusException {
+    public synchronized void deleteItem(String arguments, ClientList clientList) throws FinanceProPlusException {
         assert arguments != null : "Arguments cannot be null";
         assert policies != null : "Policies list must be initialized";
         assert clientList != null : "Client list cannot be null for a cascading delete";
@@ -80,32 +223,37 @@ public class PolicyList implements ListContainer {
         }
         int index = checkDeleteIndex(arguments);
         assert index >= 0 && index < policies.size() : "Index must be within valid range";
-        Policy removedPolicy = policies.get(index);
+        Policy removedPolicy = removePolicyAt(index);
         String removedPolicyName = removedPolicy.getName();
-        policies.remove(index);
         System.out.println("Noted. I've removed this base policy:");
         System.out.println(removedPolicy.toString());
         System.out.println("----------------------------------------------------");
         System.out.println("Checking clients for associated policy contracts...");
-        int removalCount = 0;
-        for (Client client : clientList.getClientList()) {
-            // Ask the client to remove any policy with this name
-            boolean wasRemoved = client.removePolicyByName(removedPolicyName);
-            if (wasRemoved) {
-                System.out.println("- Removed contract for '" + removedPolicyName + "' from client: "
-                        + client.getName());
-                removalCount++;
-            }
+        CascadeDeleteTask task = new CascadeDeleteTask(clientList.getClientList(), removedPolicy);
+        List<String> clientNames;
+        try {
+            clientNames = task.invoke();
+        } finally {
+            ChangeJournal.recordAll(task.getChanges());
+        }
+        StringBuilder report = new StringBuilder();
+        String newLine = System.lineSeparator();
+        for (String clientName : clientNames) {
+            report.append("- Removed contract for '").append(removedPolicyName).append("' from client: ")
+                    .append(clientName).append(newLine);
         }
-        if (removalCount > 0) {
-            System.out.println("Successfully removed " + removalCount + " associated policy contract(s) from clients.");
+        if (!clientNames.isEmpty()) {
+            report.append("Successfully removed ").append(clientNames.size())
+                    .append(" associated policy contract(s) from clients.").append(newLine);
         } else {
-            System.out.println("No clients had a contract for the deleted policy.");
+            report.append("No clients had a contract for the deleted policy.").append(newLine);
         }
+        System.out.print(report);
     }
 
     @Override
     public void listItems() throws FinanceProPlusException {
+        List<Policy> policies = this.policies;
         assert policies != null : "Policies list must be initialized";
         
         if (policies.size() == 0) {
@@ -140,6 +288,7 @@ public class PolicyList implements ListContainer {
 
     @Override
     public String toString(){
+        List<Policy> policies = this.policies;
         String result = "";
         for (int i = 0; i < policies.size(); i++) {
             result += (i + 1) + ". " + policies.get(i).toString();
@@ -186,11 +335,13 @@ public class PolicyList implements ListContainer {
     }
 
 
-    public void loadFromStorage(List<String> lines) throws FinanceProPlusException {
+    public synchronized void loadFromStorage(List<String> lines) throws FinanceProPlusException {
+        List<Policy> updated = new ArrayList<>(policies);
         for (String line : lines) {
 
-            policies.add(new Policy(line, true));
+            updated.add(new Policy(line, true));
         }
+        policies = List.copyOf(updated);
     }
 
     public List<String[]> toCSVFormat() {
@@ -0,0 +1,194 @@
+package seedu.duke.policy;
+
+import seedu.duke.client.Client;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projects the monthly premium inflow of the active clients' contracts over a number of months, in total and per
+ * catalog policy. A contract pays its monthly premium in every month from the month of its start date to the month
+ * of its expiry date; contracts without a start date, expiry date or premium are left out.
+ *
+ * <p>The contracts are read in one pass. Each contract only adds its premium where it starts paying and subtracts
+ * it after it stops, in a per-policy array of monthly changes; running sums over these arrays then give the amounts
+ * of every month. With the {@link ContractStore} enabled, the pass reads its columns instead of the contract objects.
+ */
+public class PremiumForecast {
+    public static final int MAX_MONTHS = 120;
+    private final YearMonth firstMonth;
+    private final int months;
+    private final int[] monthStarts;
+    private final List<Policy> policies = new ArrayList<>();
+    private final Map<Policy, Integer> indexByPolicy = new IdentityHashMap<>();
+    private final List<long[]> monthlyChanges = new ArrayList<>();
+    private long[][] policyCents;
+    private long[] totalCents;
+
+    private PremiumForecast(YearMonth firstMonth, int months, List<Policy> catalog) {
+        assert months > 0 && months <= MAX_MONTHS : "Months must be between 1 and " + MAX_MONTHS;
+        this.firstMonth = firstMonth;
+        this.months = months;
+        this.monthStarts = new int[months + 1];
+        for (int i = 0; i <= months; i++) {
+            monthStarts[i] = (int) firstMonth.plusMonths(i).atDay(1).toEpochDay();
+        }
+        for (Policy policy : catalog) {
+            indexOf(policy);
+        }
+    }
+
+    /**
+     * Projects the premium inflow of the given clients' contracts.
+     *
+     * @param clients    The active clients.
+     * @param catalog    The catalog policies, in the order to report them in.
+     * @param firstMonth The first month of the projection.
+     * @param months     The number of months, from 1 to {@value #MAX_MONTHS}.
+     * @return The projection.
+     */
+    public static PremiumForecast compute(List<Client> clients, List<Policy> catalog, YearMonth firstMonth,
+            int months) {
+        PremiumForecast forecast = new PremiumForecast(firstMonth, months, catalog);
+        ContractStore store = ContractStore.getInstance();
+        if (store != null) {
+            forecast.addAll(store);
+        } else {
+            forecast.addAll(clients);
+        }
+        forecast.accumulate();
+        return forecast;
+    }
+
+    private void addAll(List<Client> clients) {
+        for (Client client : clients) {
+            for (Policy policy : client.getContracts()) {
+                ClientPolicy contract = (ClientPolicy) policy;
+                LocalDate startDate = contract.getStartDate();
+                LocalDate expiryDate = contract.getExpiryDate();
+                BigDecimal premium = contract.getMonthlyPremium();
+                if (startDate != null && expiryDate != null && premium != null) {
+                    add(indexOf(contract.getBasePolicy()), startDate.toEpochDay(), expiryDate.toEpochDay(),
+                            premium.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+                }
+            }
+        }
+    }
+
+    private void addAll(ContractStore store) {
+        int[][] indexByPolicyId = {new int[0]};
+        store.forEach((clientId, policyId, startDay, expiryDay, premiumCents) -> {
+            int[] indices = indexByPolicyId[0];
+            if (policyId >= indices.length) {
+                int oldLength = indices.length;
+                indices = Arrays.copyOf(indices, Math.max(policyId + 1, oldLength * 2));
+                Arrays.fill(indices, oldLength, indices.length, -1);
+                indexByPolicyId[0] = indices;
+            }
+            if (indices[policyId] < 0) {
+                indices[policyId] = indexOf(store.getPolicy(policyId));
+            }
+            add(indices[policyId], startDay, expiryDay, premiumCents);
+        });
+    }
+
+    private int indexOf(Policy policy) {
+        return indexByPolicy.computeIfAbsent(policy, p -> {
+            policies.add(p);
+            monthlyChanges.add(new long[months + 1]);
+            return policies.size() - 1;
+        });
+    }
+
+    private void add(int policyIndex, long startDay, long expiryDay, long cents) {
+        int first = Math.max(0, monthOf(startDay));
+        int last = Math.min(months - 1, monthOf(expiryDay));
+        if (first > last) {
+            return;
+        }
+        long[] changes = monthlyChanges.get(policyIndex);
+        changes[first] += cents;
+        changes[last + 1] -= cents;
+    }
+
+    /**
+     * Returns the month of the projection the day falls in, -1 if it is before the first month or the number of
+     * months if it is after the last.
+     */
+    private int monthOf(long day) {
+        if (day < monthStarts[0]) {
+            return -1;
+        }
+        if (day >= monthStarts[months]) {
+            return months;
+        }
+        int index = Arrays.binarySearch(monthStarts, (int) day);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private void accumulate() {
+        policyCents = new long[policies.size()][];
+        totalCents = new long[months];
+        for (int p = 0; p < policies.size(); p++) {
+            long[] changes = monthlyChanges.get(p);
+            long[] cents = new long[months];
+            long running = 0;
+            for (int m = 0; m < months; m++) {
+                running += changes[m];
+                cents[m] = running;
+                totalCents[m] += running;
+            }
+            policyCents[p] = cents;
+        }
+    }
+
+    public int getMonthCount() {
+        return months;
+    }
+
+    public YearMonth getMonth(int month) {
+        return firstMonth.plusMonths(month);
+    }
+
+    /**
+     * Returns the catalog policies in the order of {@link #getPolicyCents(int, int)}.
+     */
+    public List<Policy> getPolicies() {
+        return List.copyOf(policies);
+    }
+
+    /**
+     * Returns the premium inflow of all contracts in the given month, in cents.
+     */
+    public long getTotalCents(int month) {
+        return totalCents[month];
+    }
+
+    /**
+     * Returns the premium inflow of the contracts for one catalog policy in the given month, in cents.
+     *
+     * @param policyIndex The index of the policy in {@link #getPolicies()}.
+     * @param month       The month, counted from the first month of the projection.
+     */
+    public long getPolicyCents(int policyIndex, int month) {
+        return policyCents[policyIndex][month];
+    }
+
+    /**
+     * Returns the premium inflow of the contracts for one catalog policy over all months, in cents.
+     */
+    public long getPolicyTotalCents(int policyIndex) {
+        long total = 0;
+        for (long cents : policyCents[policyIndex]) {
+            total += cents;
+        }
+        return total;
+    }
+}
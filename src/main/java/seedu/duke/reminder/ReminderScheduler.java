@@ -0,0 +1,296 @@
+package seedu.duke.reminder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Reminds the user of upcoming contract expiries, meetings and to-do due dates.
+ *
+ * <p>The lists holding these items tell the scheduler when an item is added or removed and when its date changes,
+ * so the scheduler keeps its own queue of reminders, ordered by the time they are due, and never scans the book.
+ * A daemon thread sleeps until the earliest reminder is due and then marks it as due; the console prints the due
+ * reminders between commands with {@link #takeDue(int)}. The scheduler never prints itself, as console output may be
+ * bound to the thread of a command.
+ *
+ * <p>The console starts it unless the system property {@value #ENABLED_PROPERTY} is {@code false}. While it is not
+ * started, {@link #getInstance()} returns null and the lists do not track anything.
+ */
+public class ReminderScheduler {
+    public static final String ENABLED_PROPERTY = "financeproplus.reminders";
+    public static final int CONTRACT_LEAD_DAYS = 30;
+    public static final int MEETING_LEAD_HOURS = 24;
+    public static final int TODO_LEAD_DAYS = 1;
+    private static final long MAX_WAIT_MILLIS = 60_000;
+    private static volatile ReminderScheduler instance;
+
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition headChanged = lock.newCondition();
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparing(e -> e.remindAt));
+    private final Map<Object, Entry> entriesByItem = new IdentityHashMap<>();
+    private final List<Entry> due = new ArrayList<>();
+    private int cancelledInQueue;
+
+    /**
+     * The reminder of one tracked item. It stays with the item after it is printed, so the item can be rescheduled.
+     * A replaced or cancelled entry is dropped when it reaches the head of the queue, or earlier when the queue is
+     * purged.
+     */
+    private static class Entry {
+        private final Object item;
+        private final LocalDateTime remindAt;
+        private final LocalDateTime expiresAt;
+        private final Supplier<String> message;
+        private boolean isCancelled;
+        private boolean isQueued;
+
+        Entry(Object item, LocalDateTime remindAt, LocalDateTime expiresAt, Supplier<String> message) {
+            this.item = item;
+            this.remindAt = remindAt;
+            this.expiresAt = expiresAt;
+            this.message = message;
+        }
+    }
+
+    /**
+     * Creates a scheduler on the given clock, without starting its thread.
+     */
+    ReminderScheduler(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the running scheduler, or null if reminders are not enabled.
+     */
+    public static ReminderScheduler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Replaces the running scheduler, e.g. with one on a fixed clock in tests.
+     */
+    static void setInstance(ReminderScheduler scheduler) {
+        instance = scheduler;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+    }
+
+    /**
+     * Starts the scheduler on the system clock and makes it the running one.
+     * Items added to the lists from then on, including those loaded from storage, are tracked.
+     *
+     * @return The running scheduler.
+     */
+    public static synchronized ReminderScheduler start() {
+        if (instance == null) {
+            ReminderScheduler scheduler = new ReminderScheduler(Clock.systemDefaultZone());
+            Thread thread = new Thread(scheduler::runCollector, "financeproplus-reminders");
+            thread.setDaemon(true);
+            thread.start();
+            instance = scheduler;
+        }
+        return instance;
+    }
+
+    /**
+     * Tracks the item and schedules its reminder, replacing any earlier one for it.
+     * An item that has already expired is tracked, so it can be rescheduled, but not reminded of.
+     *
+     * @param item      The item, compared by identity.
+     * @param remindAt  When to remind; a time in the past reminds at the next prompt.
+     * @param expiresAt When the reminder is no longer of use, e.g. the start of a meeting.
+     * @param message   Builds the text of the reminder when it is printed.
+     */
+    public void schedule(Object item, LocalDateTime remindAt, LocalDateTime expiresAt, Supplier<String> message) {
+        lock.lock();
+        try {
+            cancelEntry(item);
+            Entry entry = new Entry(item, remindAt, expiresAt, message);
+            entriesByItem.put(item, entry);
+            if (!expiresAt.isAfter(LocalDateTime.now(clock))) {
+                return;
+            }
+            queue.add(entry);
+            entry.isQueued = true;
+            if (queue.peek() == entry) {
+                headChanged.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Schedules the reminder of a tracked item again for new times, keeping its message, e.g. after its date changed.
+     * Does nothing if the item is not tracked, e.g. because it is not in an active list.
+     */
+    public void reschedule(Object item, LocalDateTime remindAt, LocalDateTime expiresAt) {
+        lock.lock();
+        try {
+            Entry entry = entriesByItem.get(item);
+            if (entry != null) {
+                schedule(item, remindAt, expiresAt, entry.message);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops tracking the item and cancels its reminder, including one that is due but not yet printed.
+     */
+    public void cancel(Object item) {
+        lock.lock();
+        try {
+            cancelEntry(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the entry of the item as cancelled. Removing it from the middle of the queue would take linear time, so
+     * it stays there until it reaches the head, unless cancelled entries come to outnumber the others in the queue,
+     * which then drops them all at once.
+     */
+    private void cancelEntry(Object item) {
+        Entry entry = entriesByItem.remove(item);
+        if (entry == null) {
+            return;
+        }
+        entry.isCancelled = true;
+        if (entry.isQueued) {
+            cancelledInQueue++;
+            if (cancelledInQueue > queue.size() - cancelledInQueue) {
+                queue.removeIf(e -> e.isCancelled);
+                cancelledInQueue = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of reminders in the queue, including cancelled ones not yet dropped.
+     */
+    int getQueuedCount() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of tracked items.
+     */
+    public int getTrackedCount() {
+        lock.lock();
+        try {
+            return entriesByItem.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the reminders whose time has come as due, looking only at the head of the queue.
+     *
+     * @return The number of reminders marked as due.
+     */
+    int collectDue() {
+        lock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            int count = 0;
+            Entry head = queue.peek();
+            while (head != null && (head.isCancelled || !head.remindAt.isAfter(now))) {
+                queue.poll();
+                head.isQueued = false;
+                if (head.isCancelled) {
+                    cancelledInQueue--;
+                } else {
+                    due.add(head);
+                    count++;
+                }
+                head = queue.peek();
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the texts of at most {@code limit} due reminders, soonest item first. Each reminder is returned once;
+     * the others stay due and are returned by the next calls.
+     * Reminders whose item was removed, rescheduled or has expired in the meantime are left out.
+     *
+     * @param limit The most reminders to return.
+     */
+    public List<String> takeDue(int limit) {
+        assert limit > 0 : "Limit must be positive";
+        collectDue();
+        List<Entry> taken;
+        lock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            due.removeIf(entry -> entry.isCancelled || !entry.expiresAt.isAfter(now));
+            due.sort(Comparator.comparing(e -> e.expiresAt));
+            List<Entry> head = due.subList(0, Math.min(limit, due.size()));
+            taken = new ArrayList<>(head);
+            head.clear();
+        } finally {
+            lock.unlock();
+        }
+        List<String> messages = new ArrayList<>(taken.size());
+        for (Entry entry : taken) {
+            messages.add(entry.message.get());
+        }
+        return messages;
+    }
+
+    /**
+     * Returns the number of reminders that are due but have not been returned by {@link #takeDue(int)} yet.
+     */
+    public int getDueCount() {
+        lock.lock();
+        try {
+            return due.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runCollector() {
+        lock.lock();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                collectDue();
+                Entry head = queue.peek();
+                long waitMillis = MAX_WAIT_MILLIS;
+                if (head != null) {
+                    long untilHead = Duration.between(LocalDateTime.now(clock), head.remindAt).toMillis();
+                    waitMillis = Math.max(1, Math.min(waitMillis, untilHead));
+                }
+                headChanged.await(waitMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.duke.server;
+
+import seedu.duke.FinanceProPlus;
+import seedu.duke.history.History;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+/**
+ * Serves one connection: reads commands line by line and answers with the same output the console shows.
+ * The session has its own undo and redo stacks and its own transaction. A transaction keeps the other sessions
+ * waiting, so one left idle for {@value #TRANSACTION_TIMEOUT_PROPERTY} seconds (120 by default) is rolled back.
+ */
+class Session implements Runnable {
+    static final String TRANSACTION_TIMEOUT_PROPERTY = "financeproplus.server.transactionTimeout";
+    private static final int TRANSACTION_TIMEOUT_SECONDS = Math.max(1,
+            Integer.getInteger(TRANSACTION_TIMEOUT_PROPERTY, 120));
+    private static final Logger logger = Logger.getLogger(Session.class.getName());
+    private final Socket socket;
+    private final FinanceProPlus app;
+
+    Session(Socket socket, FinanceProPlus app) {
+        assert socket != null : "Socket cannot be null";
+        assert app != null : "Application cannot be null";
+        this.socket = socket;
+        this.app = app;
+    }
+
+    @Override
+    public void run() {
+        logger.info(() -> "Session opened for " + socket.getRemoteSocketAddress());
+        try (Socket client = socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+             PrintStream out = new PrintStream(client.getOutputStream(), false, StandardCharsets.UTF_8)) {
+            SessionOutput.redirectTo(out);
+            History history = app.openSession();
+            try {
+                out.println("Welcome to FinanceProPlus! Type 'exit' to end this session.");
+                printPrompt(out);
+                String line;
+                while ((line = readLine(client, in, out, history)) != null) {
+                    if (line.trim().equalsIgnoreCase("exit")) {
+                        break;
+                    }
+                    app.processCommand(line, history);
+                    printPrompt(out);
+                }
+            } finally {
+                app.endSession(history);
+            }
+            out.println("Bye. See you next time!");
+            out.flush();
+        } catch (IOException e) {
+            logger.warning(() -> "Session for " + socket.getRemoteSocketAddress() + " failed: " + e.getMessage());
+        } finally {
+            SessionOutput.reset();
+            logger.info(() -> "Session closed for " + socket.getRemoteSocketAddress());
+        }
+    }
+
+    /**
+     * Reads the next line. While a transaction is open, waits at most the transaction timeout and then rolls the
+     * transaction back before waiting on.
+     */
+    private String readLine(Socket client, BufferedReader in, PrintStream out, History history)
+            throws IOException {
+        while (true) {
+            client.setSoTimeout(history.isInTransaction() ? TRANSACTION_TIMEOUT_SECONDS * 1000 : 0);
+            try {
+                return in.readLine();
+            } catch (SocketTimeoutException e) {
+                if (app.abandonTransaction(history)) {
+                    out.println("The transaction was idle for " + TRANSACTION_TIMEOUT_SECONDS
+                            + " seconds and has been rolled back, so other sessions can continue.");
+                    printPrompt(out);
+                }
+            }
+        }
+    }
+
+    private void printPrompt(PrintStream out) {
+        out.print("> ");
+        out.flush();
+    }
+}
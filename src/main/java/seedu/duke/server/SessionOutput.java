@@ -0,0 +1,69 @@
+package seedu.duke.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Sends {@code System.out} to the session running on the current thread.
+ * Commands print their results to {@code System.out}; once this stream is installed, whatever a session's
+ * thread prints goes to that session's connection, and every other thread keeps printing to the console.
+ */
+public class SessionOutput extends OutputStream {
+    private static final ThreadLocal<OutputStream> sessionStream = new ThreadLocal<>();
+    private static boolean isInstalled = false;
+    private final OutputStream console;
+
+    SessionOutput(OutputStream console) {
+        assert console != null : "Console stream cannot be null";
+        this.console = console;
+    }
+
+    /**
+     * Replaces {@code System.out} with a stream that routes output by thread.
+     * Calling this again has no effect.
+     */
+    public static synchronized void install() {
+        if (!isInstalled) {
+            System.setOut(new PrintStream(new SessionOutput(System.out), true));
+            isInstalled = true;
+        }
+    }
+
+    /**
+     * Sends everything the current thread prints to the given stream until {@link #reset()} is called.
+     *
+     * @param out The stream of the session running on this thread.
+     */
+    public static void redirectTo(OutputStream out) {
+        assert out != null : "Session stream cannot be null";
+        sessionStream.set(out);
+    }
+
+    /**
+     * Sends what the current thread prints back to the console.
+     */
+    public static void reset() {
+        sessionStream.remove();
+    }
+
+    private OutputStream current() {
+        OutputStream out = sessionStream.get();
+        return out != null ? out : console;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        current().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        current().write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        current().flush();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.duke.server;
+
+import seedu.duke.FinanceProPlus;
+import seedu.duke.metrics.StorageStats;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Accepts command sessions on a localhost port and runs each of them on its own thread.
+ * All sessions work on the same data and share its saving, so several advisors can use one book at once.
+ */
+public class SessionServer {
+    private static final Logger logger = Logger.getLogger(SessionServer.class.getName());
+    private static final int CONNECTION_BACKLOG = 50;
+    private final FinanceProPlus app;
+    private final int port;
+
+    /**
+     * Creates a server for the given application.
+     *
+     * @param app  The application whose data the sessions work on.
+     * @param port The localhost port to listen on; 0 picks a free port.
+     */
+    public SessionServer(FinanceProPlus app, int port) {
+        assert app != null : "Application cannot be null";
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 0 and 65535.");
+        }
+        this.app = app;
+        this.port = port;
+    }
+
+    /**
+     * Listens for sessions until the process is stopped.
+     *
+     * @throws IOException If the port cannot be opened.
+     */
+    public void serve() throws IOException {
+        SessionOutput.install();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> logger.info(StorageStats::summary)));
+        ExecutorService sessions = newSessionExecutor();
+        try (ServerSocket serverSocket = new ServerSocket(port, CONNECTION_BACKLOG, InetAddress.getLoopbackAddress())) {
+            System.out.println("FinanceProPlus is serving on " + serverSocket.getInetAddress().getHostAddress()
+                    + ":" + serverSocket.getLocalPort() + ". Press Ctrl+C to stop.");
+            logger.info(() -> "Server listening on port " + serverSocket.getLocalPort());
+            while (!serverSocket.isClosed()) {
+                Socket socket = serverSocket.accept();
+                sessions.execute(new Session(socket, app));
+            }
+        } finally {
+            sessions.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns an executor that starts a virtual thread per session when the JVM supports them
+     * (Java 21 and above), and a cached pool of platform threads otherwise.
+     */
+    static ExecutorService newSessionExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.info("Virtual threads are not available, sessions will use platform threads.");
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.duke.storage;
+
+import seedu.duke.metrics.StorageEvent;
+import seedu.duke.metrics.StorageStats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Represents an append-only file of compressed records, each a list of lines.
+ * A record is written once and then only read back by its location, so appending never rewrites earlier records;
+ * records that are no longer needed stay in the file until the records still in use are copied to a new file with
+ * {@link #copyTo(List, CompressedRecordFile)}.
+ */
+public class CompressedRecordFile {
+    private final File file;
+    private final String statsName;
+    private final boolean isFsyncEnabled;
+
+    /**
+     * Where a record starts in the file and how many bytes it takes.
+     */
+    public static class Location {
+        private final long offset;
+        private final int length;
+
+        public Location(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public int getLength() {
+            return length;
+        }
+    }
+
+    CompressedRecordFile(File file, String statsName, boolean isFsyncEnabled) {
+        this.file = file;
+        this.statsName = statsName;
+        this.isFsyncEnabled = isFsyncEnabled;
+    }
+
+    /**
+     * Compresses the records and appends them to the end of the file in one write.
+     *
+     * @param records The records to append, each a list of lines.
+     * @return The location of each record, in the same order.
+     * @throws IOException If the file cannot be written.
+     */
+    public List<Location> append(List<List<String>> records) throws IOException {
+        StorageEvent event = StorageEvent.start("append", statsName);
+        long startTime = System.nanoTime();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        List<Integer> lengths = new ArrayList<>(records.size());
+        for (List<String> record : records) {
+            int sizeBefore = buffer.size();
+            writeRecord(record, buffer);
+            lengths.add(buffer.size() - sizeBefore);
+        }
+        List<Location> locations = new ArrayList<>(records.size());
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            long offset = channel.size();
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            StorageStats.recordFlush();
+            if (isFsyncEnabled) {
+                channel.force(false);
+                StorageStats.recordFsync();
+            }
+            for (int length : lengths) {
+                locations.add(new Location(offset, length));
+                offset += length;
+            }
+        }
+        StorageStats.recordSave(statsName, buffer.size(), System.nanoTime() - startTime);
+        event.finish(buffer.size());
+        return locations;
+    }
+
+    /**
+     * Reads back the record at the given location.
+     *
+     * @param location The location returned when the record was appended.
+     * @return The lines of the record.
+     * @throws IOException If the file cannot be read or the record is damaged.
+     */
+    public List<String> read(Location location) throws IOException {
+        return readAll(List.of(location)).get(0);
+    }
+
+    /**
+     * Reads back the records at the given locations, opening the file once.
+     *
+     * @param locations The locations returned when the records were appended.
+     * @return The lines of each record, in the same order.
+     * @throws IOException If the file cannot be read or a record is damaged.
+     */
+    public List<List<String>> readAll(List<Location> locations) throws IOException {
+        List<List<String>> records = new ArrayList<>(locations.size());
+        if (locations.isEmpty()) {
+            return records;
+        }
+        StorageEvent event = StorageEvent.start("load", statsName);
+        long startTime = System.nanoTime();
+        long bytesRead = 0;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            for (Location location : locations) {
+                ByteBuffer bytes = ByteBuffer.allocate(location.getLength());
+                while (bytes.hasRemaining()) {
+                    if (channel.read(bytes, location.getOffset() + bytes.position()) < 0) {
+                        throw new EOFException("Record at " + location.getOffset() + " is cut short in "
+                                + statsName);
+                    }
+                }
+                records.add(readRecord(new ByteArrayInputStream(bytes.array())));
+                bytesRead += location.getLength();
+            }
+        }
+        StorageStats.recordLoad(statsName, bytesRead, System.nanoTime() - startTime);
+        event.finish(bytesRead);
+        return records;
+    }
+
+    /**
+     * Copies the records at the given locations to the target as they are, without decompressing them, so the
+     * target holds only those records. Whatever the target held before is discarded.
+     *
+     * @param locations The locations of the records to keep.
+     * @param target    The file to copy the records to.
+     * @return The location of each record in the target, in the same order.
+     * @throws IOException If either file cannot be accessed or a record is cut short.
+     */
+    public List<Location> copyTo(List<Location> locations, CompressedRecordFile target) throws IOException {
+        StorageEvent event = StorageEvent.start("compact", target.statsName);
+        long startTime = System.nanoTime();
+        List<Location> copied = new ArrayList<>(locations.size());
+        long offset = 0;
+        try (FileChannel source = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                FileChannel channel = FileChannel.open(target.file.toPath(), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Location location : locations) {
+                long position = location.getOffset();
+                long end = position + location.getLength();
+                while (position < end) {
+                    long transferred = source.transferTo(position, end - position, channel);
+                    if (transferred <= 0) {
+                        throw new EOFException("Record at " + location.getOffset() + " is cut short in "
+                                + statsName);
+                    }
+                    position += transferred;
+                }
+                copied.add(new Location(offset, location.getLength()));
+                offset += location.getLength();
+            }
+            StorageStats.recordFlush();
+            if (target.isFsyncEnabled) {
+                channel.force(false);
+                StorageStats.recordFsync();
+            }
+        }
+        StorageStats.recordSave(target.statsName, offset, System.nanoTime() - startTime);
+        event.finish(offset);
+        return copied;
+    }
+
+    /**
+     * Returns the size of the file in bytes, including records that are no longer used.
+     */
+    public long size() {
+        return file.length();
+    }
+
+    private static void writeRecord(List<String> lines, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new DeflaterOutputStream(out));
+        data.writeInt(lines.size());
+        for (String line : lines) {
+            data.writeUTF(line);
+        }
+        data.close();
+    }
+
+    private static List<String> readRecord(InputStream in) throws IOException {
+        try (DataInputStream data = new DataInputStream(new InflaterInputStream(in))) {
+            int count = data.readInt();
+            List<String> lines = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                lines.add(data.readUTF());
+            }
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.duke.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a group of independent file writes on a bounded pool of writer threads and waits for all of them.
+ * The pool has {@value #THREADS_PROPERTY} threads (by default the number of processors, at most 4) and is shared
+ * by all batches; with 1 thread, writes run on the calling thread when the batch is awaited.
+ *
+ * <p>A failed write does not stop the others. {@link #awaitAll()} returns once every write has finished and then
+ * reports all failures together.
+ */
+public class SaveBatch {
+    public static final String THREADS_PROPERTY = "financeproplus.storage.threads";
+    private static final int THREAD_COUNT = Math.max(1, Integer.getInteger(THREADS_PROPERTY,
+            Math.min(4, Runtime.getRuntime().availableProcessors())));
+    private static final int MAX_REPORTED_FAILURES = 5;
+    private static volatile ExecutorService writers;
+
+    private final List<String> names = new ArrayList<>();
+    private final List<Write> writes = new ArrayList<>();
+
+    /**
+     * One or more file writes that run together on one writer thread.
+     */
+    public interface Write {
+        void run() throws IOException;
+    }
+
+    /**
+     * Adds a write to the batch. It runs when the batch is awaited.
+     *
+     * @param name  What is written, used in the failure report, e.g. the file name.
+     * @param write The write to run.
+     */
+    public void submit(String name, Write write) {
+        names.add(name);
+        writes.add(write);
+    }
+
+    /**
+     * Runs all writes of the batch and waits until every one of them has finished.
+     *
+     * @return The number of writes that ran.
+     * @throws IOException If any write failed; the message names each failed write, up to
+     *     {@value #MAX_REPORTED_FAILURES}, and every failure is attached as suppressed.
+     */
+    public int awaitAll() throws IOException {
+        List<Throwable> failures = new ArrayList<>();
+        List<String> failedNames = new ArrayList<>();
+        if (THREAD_COUNT == 1 || writes.size() == 1) {
+            for (int i = 0; i < writes.size(); i++) {
+                try {
+                    writes.get(i).run();
+                } catch (IOException | RuntimeException e) {
+                    failures.add(e);
+                    failedNames.add(names.get(i));
+                }
+            }
+        } else {
+            List<Future<?>> futures = new ArrayList<>(writes.size());
+            for (Write write : writes) {
+                futures.add(getWriters().submit(() -> {
+                    write.run();
+                    return null;
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                    failedNames.add(names.get(i));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for files to be saved", e);
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw toException(failedNames, failures);
+        }
+        return writes.size();
+    }
+
+    private static IOException toException(List<String> failedNames, List<Throwable> failures) {
+        StringBuilder message = new StringBuilder("Failed to save ").append(failures.size()).append(" of the files: ");
+        for (int i = 0; i < Math.min(MAX_REPORTED_FAILURES, failures.size()); i++) {
+            message.append(i == 0 ? "" : "; ").append(failedNames.get(i)).append(" (")
+                    .append(failures.get(i).getMessage()).append(")");
+        }
+        if (failures.size() > MAX_REPORTED_FAILURES) {
+            message.append("; and ").append(failures.size() - MAX_REPORTED_FAILURES).append(" more");
+        }
+        IOException exception = new IOException(message.toString());
+        for (Throwable failure : failures) {
+            exception.addSuppressed(failure);
+        }
+        return exception;
+    }
+
+    private static ExecutorService getWriters() {
+        ExecutorService pool = writers;
+        if (pool == null) {
+            synchronized (SaveBatch.class) {
+                pool = writers;
+                if (pool == null) {
+                    pool = Executors.newFixedThreadPool(THREAD_COUNT, task -> {
+                        Thread thread = new Thread(task, "financeproplus-writer");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    writers = pool;
+                }
+            }
+        }
+        return pool;
+    }
+}
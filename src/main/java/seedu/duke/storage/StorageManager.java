@@ -1,16 +1,33 @@
 package seedu.duke.storage;
 
+import seedu.duke.metrics.CountingOutputStream;
+import seedu.duke.metrics.StorageEvent;
+import seedu.duke.metrics.StorageStats;
+
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
-import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 /**
  * Represents a file-based storage utility for application data, exports, and per-client artifacts.
  * Ensures required folders exist and provides helpers for reading/writing files and CSV.
+ *
+ * <p>With the system property {@value #COMPRESS_PROPERTY} set to true, data files are written GZIP-compressed
+ * under their usual names. Files are checked for the GZIP header when they are read, so plain and compressed
+ * files can be mixed and the property can be switched either way between runs. CSV exports are always plain.
  */
 public class StorageManager {
 
@@ -18,12 +35,40 @@ public class StorageManager {
     private static final String CLIENT_TASKS_FOLDER = "data/client_tasks/";
     private static final String EXPORT_FOLDER = "exports/";
     private static final String CLIENT_POLICIES_FOLDER = "data/client_policies/";
+    private static final String FSYNC_PROPERTY = "financeproplus.storage.fsync";
+    private static final String COMPRESS_PROPERTY = "financeproplus.storage.compress";
+    /** Files with fewer characters than this stay plain, as the GZIP header and trailer would outweigh savings. */
+    private static final int MIN_COMPRESSED_CHARS = 512;
+    private static final int MAX_DIRECT_CHARS = 8192;
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final String TEMP_SUFFIX = ".tmp";
+    private final String dataFolder;
+    private final String clientTasksFolder;
+    private final String exportFolder;
+    private final String clientPoliciesFolder;
+    private final boolean isFsyncEnabled = Boolean.getBoolean(FSYNC_PROPERTY);
+    private final boolean isCompressionEnabled = Boolean.getBoolean(COMPRESS_PROPERTY);
 
     public StorageManager() {
-        createFolder(DATA_FOLDER);
-        createFolder(EXPORT_FOLDER);
-        createFolder(CLIENT_TASKS_FOLDER);
-        createFolder(CLIENT_POLICIES_FOLDER);
+        this("");
+    }
+
+    /**
+     * Creates a storage manager that keeps its {@code data/} and {@code exports/} folders under the given folder.
+     *
+     * @param rootFolder The folder to store everything under; an empty string means the working directory.
+     */
+    public StorageManager(String rootFolder) {
+        assert rootFolder != null : "Root folder cannot be null";
+        String root = rootFolder.isEmpty() || rootFolder.endsWith("/") ? rootFolder : rootFolder + "/";
+        this.dataFolder = root + DATA_FOLDER;
+        this.clientTasksFolder = root + CLIENT_TASKS_FOLDER;
+        this.exportFolder = root + EXPORT_FOLDER;
+        this.clientPoliciesFolder = root + CLIENT_POLICIES_FOLDER;
+        createFolder(dataFolder);
+        createFolder(exportFolder);
+        createFolder(clientTasksFolder);
+        createFolder(clientPoliciesFolder);
 
     }
 
@@ -42,24 +87,172 @@ public class StorageManager {
             throw new IllegalArgumentException("Lines cannot be null");
         }
 
-        File file = new File(DATA_FOLDER + filename);
-        BufferedWriter writer = new BufferedWriter(new FileWriter(file));
+        writeLines(new File(dataFolder + filename), filename, lines, isCompressionEnabled);
+    }
+
+    public List<String> loadFromFile(String filename) throws IOException {
+        return readLines(new File(dataFolder + filename), filename);
+    }
+
+    /**
+     * Returns whether the data folder has a file with the given name.
+     */
+    public boolean hasFile(String filename) {
+        return new File(dataFolder + filename).isFile();
+    }
+
+    /**
+     * Moves a file in the data folder over another one, in one step where the file system allows it.
+     *
+     * @param source The name of the file to move.
+     * @param target The name of the file to replace.
+     * @throws IOException If the file cannot be moved.
+     */
+    public void moveFile(String source, String target) throws IOException {
+        replace(new File(dataFolder + source), new File(dataFolder + target));
+    }
+
+    /**
+     * Deletes the file with the given name from the data folder if it exists.
+     *
+     * @throws IOException If the file exists but cannot be deleted.
+     */
+    public void deleteFile(String filename) throws IOException {
+        Files.deleteIfExists(new File(dataFolder + filename).toPath());
+    }
+
+    /**
+     * Returns the append-only compressed record file with the given name in the data folder.
+     * The file is created on the first append.
+     *
+     * @param filename The name of the file.
+     * @return The record file.
+     */
+    public CompressedRecordFile openRecordFile(String filename) {
+        if (filename == null || filename.isEmpty()) {
+            throw new IllegalArgumentException("Filename cannot be null or empty");
+        }
+        return new CompressedRecordFile(new File(dataFolder + filename), filename, isFsyncEnabled);
+    }
+
+    /**
+     * Writes the lines to the file and records the bytes, the flush and the duration in {@link StorageStats}.
+     * With the system property {@value #FSYNC_PROPERTY} set to true, the file is also forced to disk.
+     * The recorded bytes are those written to disk, i.e. after compression. A file of at most
+     * {@value #MAX_DIRECT_CHARS} characters, such as most per-client files, is encoded into one array and written
+     * at once instead of through a writer, whose buffers would be several times the size of the file.
+     *
+     * <p>The lines are written to a temporary file next to the file, which then replaces it, so a failed or
+     * interrupted save leaves the previous contents in place.
+     *
+     * @param isCompressed Whether to GZIP the file if it is at least {@value #MIN_COMPRESSED_CHARS} characters long.
+     */
+    private void writeLines(File file, String statsName, List<String> lines, boolean isCompressed)
+            throws IOException {
+        StorageEvent event = StorageEvent.start("save", statsName);
+        long startTime = System.nanoTime();
+        long charCount = countChars(lines);
+        File tempFile = new File(file.getPath() + TEMP_SUFFIX);
+        long byteCount;
         try {
-            for (String line : lines) {
-                writer.write(line);
-                writer.newLine();
-            }
+            byteCount = writeLinesTo(tempFile, lines, charCount, isCompressed && charCount >= MIN_COMPRESSED_CHARS);
+            replace(tempFile, file);
         } finally {
-            writer.close();
+            Files.deleteIfExists(tempFile.toPath());
         }
+        StorageStats.recordSave(statsName, byteCount, System.nanoTime() - startTime);
+        event.finish(byteCount);
     }
 
-    public List<String> loadFromFile(String filename) throws IOException {
-        File file = new File(DATA_FOLDER + filename);
+    private long writeLinesTo(File file, List<String> lines, long charCount, boolean isCompressed)
+            throws IOException {
+        try (FileOutputStream fileOut = new FileOutputStream(file)) {
+            CountingOutputStream countingOut = new CountingOutputStream(fileOut);
+            try (OutputStream out = isCompressed ? new GZIPOutputStream(countingOut, 8192) : countingOut) {
+                if (charCount <= MAX_DIRECT_CHARS) {
+                    out.write(join(lines, (int) charCount).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                    writer.flush();
+                }
+                if (out instanceof GZIPOutputStream) {
+                    ((GZIPOutputStream) out).finish();
+                }
+                StorageStats.recordFlush();
+                if (isFsyncEnabled) {
+                    fileOut.getFD().sync();
+                    StorageStats.recordFsync();
+                }
+            }
+            return countingOut.getCount();
+        }
+    }
+
+    /**
+     * Moves the source over the target in one step where the file system allows it.
+     */
+    static void replace(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String join(List<String> lines, int charCount) {
+        String newLine = System.lineSeparator();
+        StringBuilder sb = new StringBuilder(charCount + lines.size() * (newLine.length() - 1));
+        for (String line : lines) {
+            sb.append(line).append(newLine);
+        }
+        return sb.toString();
+    }
+
+    private static long countChars(List<String> lines) {
+        long count = 0;
+        for (String line : lines) {
+            count += line.length() + 1;
+        }
+        return count;
+    }
+
+    private List<String> readLines(File file, String statsName) throws IOException {
         if (!file.exists()) {
             return new ArrayList<>();
         }
-        return Files.readAllLines(Path.of(DATA_FOLDER + filename));
+        StorageEvent event = StorageEvent.start("load", statsName);
+        long startTime = System.nanoTime();
+        byte[] content = Files.readAllBytes(file.toPath());
+        List<String> lines = isCompressed(content) ? readCompressedLines(content)
+                : toLines(new String(content, StandardCharsets.UTF_8));
+        StorageStats.recordLoad(statsName, content.length, System.nanoTime() - startTime);
+        event.finish(content.length);
+        return lines;
+    }
+
+    /**
+     * Returns whether the content starts with the GZIP header. Plain data files never do, as they are text.
+     */
+    private static boolean isCompressed(byte[] content) {
+        return content.length >= 2 && ((content[0] & 0xff) | ((content[1] & 0xff) << 8)) == GZIP_MAGIC;
+    }
+
+    private static List<String> readCompressedLines(byte[] content) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content), 8192)) {
+            return toLines(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Splits the text into lines. A line ends at a line feed, a carriage return or both, as with a reader.
+     */
+    private static List<String> toLines(String text) {
+        return text.lines().collect(Collectors.toCollection(ArrayList::new));
     }
 
 
@@ -71,16 +264,11 @@ public class StorageManager {
             throw new IllegalArgumentException("CSV rows cannot be null");
         }
 
-        File file = new File(EXPORT_FOLDER + filename);
-        BufferedWriter writer = new BufferedWriter(new FileWriter(file));
-        try {
-            for (String[] row : rows) {
-                writer.write(String.join(",", escapeCsv(row)));
-                writer.newLine();
-            }
-        } finally {
-            writer.close();
+        List<String> lines = new ArrayList<>(rows.size());
+        for (String[] row : rows) {
+            lines.add(String.join(",", escapeCsv(row)));
         }
+        writeLines(new File(exportFolder + filename), EXPORT_FOLDER + filename, lines, false);
     }
 
     private String[] escapeCsv(String[] fields) {
@@ -106,11 +294,7 @@ public class StorageManager {
         if (nric == null || nric.isEmpty()) {
             return new ArrayList<>();
         }
-        File file = new File(DATA_FOLDER + "client_tasks/" + nric + ".txt");
-        if (!file.exists()) {
-            return new ArrayList<>();
-        }
-        return Files.readAllLines(Path.of(file.getPath()));
+        return readLines(new File(clientTasksFolder + nric + ".txt"), "client_tasks/" + nric + ".txt");
     }
 
     public void saveClientPolicies(String nric, List<String> lines) throws IOException {
@@ -124,11 +308,7 @@ public class StorageManager {
         if (nric == null || nric.isEmpty()) {
             return new ArrayList<>();
         }
-        File file = new File(CLIENT_POLICIES_FOLDER + nric + ".txt");
-        if (!file.exists()) {
-            return new ArrayList<>();
-        }
-        return Files.readAllLines(Path.of(file.getPath()));
+        return readLines(new File(clientPoliciesFolder + nric + ".txt"), "client_policies/" + nric + ".txt");
     }
 
 }
@@ -2,31 +2,96 @@ package seedu.duke.task;
 
 import seedu.duke.container.ListContainer;
 import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.history.Change;
+import seedu.duke.history.ChangeJournal;
+import seedu.duke.reminder.ReminderScheduler;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.List;
 
+/**
+ * Represents a list of tasks.
+ * The list is copy-on-write: writers publish a new immutable snapshot, so readers never need a lock.
+ * Snapshots are compact immutable lists, so an empty list is the shared {@code List.of()} and a list of one or two
+ * items is a single small object.
+ */
 public class TaskList implements ListContainer {
     private static final Logger logger = Logger.getLogger(TaskList.class.getName());
-    private ArrayList<Task> tasks;
-
+    private static final DateTimeFormatter DUE_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu");
+    private volatile List<Task> tasks;
+    private final String ownerNric;
+    private boolean isActive;
+
+    /**
+     * Creates an empty list for the user's own tasks.
+     */
     public TaskList() {
-        this.tasks = new ArrayList<>();
+        this(null);
+        this.isActive = true;
+    }
+
+    /**
+     * Creates an empty list for the to-dos of the given client.
+     * Its due dates are only reminded of while the list is active, i.e. while the client is in the active client
+     * list.
+     *
+     * @param ownerNric The NRIC of the client the to-dos are for.
+     */
+    public TaskList(String ownerNric) {
+        this.tasks = List.of();
+        this.ownerNric = ownerNric;
         assert tasks != null : "TaskList should not be null after initialization";
     }
 
+    /**
+     * Marks the client these to-dos are for as active or not, tracking or no longer tracking their due dates.
+     *
+     * @param isActive Whether the client is in the active client list.
+     */
+    public synchronized void setActive(boolean isActive) {
+        assert ownerNric != null : "Only a client's to-do list can be activated";
+        this.isActive = isActive;
+        for (Task task : tasks) {
+            updateReminder(task, isActive);
+        }
+    }
+
+    /**
+     * Reminds of the task {@value ReminderScheduler#TODO_LEAD_DAYS} day before its due date, or stops doing so.
+     * Does nothing if reminders are not enabled.
+     */
+    private void updateReminder(Task task, boolean isTracked) {
+        ReminderScheduler scheduler = ReminderScheduler.getInstance();
+        if (scheduler == null) {
+            return;
+        }
+        if (!isTracked) {
+            scheduler.cancel(task);
+            return;
+        }
+        LocalDate dueDate = LocalDate.parse(task.getDueDate(), DUE_DATE_FORMATTER);
+        String owner = ownerNric == null ? "Task " : "To-do of client " + ownerNric + ": ";
+        scheduler.schedule(task, dueDate.minusDays(ReminderScheduler.TODO_LEAD_DAYS).atStartOfDay(),
+                dueDate.plusDays(1).atStartOfDay(),
+                () -> owner + task.getDescription() + " is due by " + task.getDueDate() + ".");
+    }
+
     @Override
-    public void addItem(String arguments) throws FinanceProPlusException {
+    public synchronized void addItem(String arguments) throws FinanceProPlusException {
         Task task = new Task(arguments);
         assert task != null : "Task to be added should not be null";
         assert tasks != null : "TaskList should not be null when adding an item";
         int oldSize = tasks.size();
-        tasks.add(task);
+        insertAt(oldSize, task);
+        ChangeJournal.record(Change.of(() -> removeAt(oldSize), () -> insertAt(oldSize, task)));
         assert tasks.size() == oldSize + 1: "TaskList size should increase by 1 after adding an item";
         System.out.println("Noted. I've added this task:");
         System.out.println(task.toString());
-        logger.info("Successfully added new task: " + task.getDescription());
+        logger.info(() -> "Successfully added new task: " + task.getDescription());
     }
 
     @Override
@@ -35,30 +100,42 @@ public class TaskList implements ListContainer {
     }
 
     @Override
-    public void deleteItem(String arguments) throws FinanceProPlusException {
+    public synchronized void deleteItem(String arguments) throws FinanceProPlusException {
         if (tasks.size() == 0) {
             System.out.println("No tasks to delete.");
             return;
         }
         int oldSize = tasks.size();
         int index = checkDeleteIndex(arguments);
-        Task removedTask = tasks.remove(index);
+        Task removedTask = removeAt(index);
+        ChangeJournal.record(Change.of(() -> insertAt(index, removedTask), () -> removeAt(index)));
         assert tasks.size() == oldSize - 1 : "Task list size should decrease by 1 after deleting a task";
         System.out.println("Noted. I've removed this task:");
         System.out.println(removedTask.toString());
-        logger.info("Successfully deleted task: " + removedTask.getDescription());
+        logger.info(() -> "Successfully deleted task: " + removedTask.getDescription());
     }
 
     @Override
     public void listItems() throws FinanceProPlusException {
-        if (tasks.size() == 0) {
-            System.out.println("No tasks found.");
-        } else {
-            System.out.println("Here are the tasks in your list:");
-            for (int i = 0; i < tasks.size(); i++) {
-                System.out.println((i + 1) + ". " + tasks.get(i).toString());
-            }
+        System.out.print(render(tasks));
+    }
+
+    /**
+     * Returns the text {@link #listItems()} prints for the given tasks, one line per task.
+     *
+     * @param tasks A snapshot of a task list.
+     * @return The text, ending with a line separator.
+     */
+    public static String render(List<Task> tasks) {
+        String newLine = System.lineSeparator();
+        if (tasks.isEmpty()) {
+            return "No tasks found." + newLine;
         }
+        StringBuilder sb = new StringBuilder("Here are the tasks in your list:").append(newLine);
+        for (int i = 0; i < tasks.size(); i++) {
+            sb.append(i + 1).append(". ").append(tasks.get(i)).append(newLine);
+        }
+        return sb.toString();
     }
 
     @Override
@@ -72,14 +149,45 @@ public class TaskList implements ListContainer {
         } catch (NumberFormatException e) {
             throw new FinanceProPlusException("Invalid input. Please provide a valid task index to delete.");
         }
-        logger.fine("Validated delete index: " + index);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Validated delete index: " + index);
+        }
         return index;
     }
 
+    private synchronized void insertAt(int index, Task task) {
+        List<Task> updated = new ArrayList<>(tasks);
+        updated.add(index, task);
+        tasks = List.copyOf(updated);
+        if (isActive) {
+            updateReminder(task, true);
+        }
+    }
+
+    private synchronized Task removeAt(int index) {
+        List<Task> updated = new ArrayList<>(tasks);
+        Task removedTask = updated.remove(index);
+        tasks = List.copyOf(updated);
+        if (isActive) {
+            updateReminder(removedTask, false);
+        }
+        return removedTask;
+    }
+
     public int getSize() {
         return tasks.size();
     }
 
+    /**
+     * Returns a read-only snapshot of the tasks.
+     * Every change to the list publishes a new snapshot, so an unchanged snapshot means an unchanged list.
+     *
+     * @return The tasks at the time of the call.
+     */
+    public List<Task> getTaskList() {
+        return tasks;
+    }
+
 
     public List<String> toStorageFormat() {
         List<String> lines = new ArrayList<>();
@@ -98,12 +206,20 @@ public class TaskList implements ListContainer {
         return rows;
     }
 
-    public void loadFromStorage(List<String> lines) {
+    public synchronized void loadFromStorage(List<String> lines) {
+        List<Task> updated = new ArrayList<>(tasks);
+        int firstLoaded = updated.size();
         for (String line : lines) {
             try {
-                tasks.add(new Task(line));
+                updated.add(new Task(line));
             } catch (FinanceProPlusException e) {
-                logger.warning("Skipped invalid task entry: " + e.getMessage());
+                logger.warning(() -> "Skipped invalid task entry: " + e.getMessage());
+            }
+        }
+        tasks = List.copyOf(updated);
+        if (isActive) {
+            for (Task task : updated.subList(firstLoaded, updated.size())) {
+                updateReminder(task, true);
             }
         }
     }
@@ -0,0 +1,224 @@
+package seedu.duke.tools;
+
+import seedu.duke.storage.StorageManager;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates a complete book of synthetic data for scale testing.
+ * The output is written through {@link StorageManager}, so it is exactly what the application loads, and it only
+ * depends on the seed and the sizes: the same arguments always produce the same files.
+ */
+public class DataGenerator {
+    public static final int MAX_CLIENTS = 20_000_000;
+    private static final String USAGE = "Usage: DataGenerator <ROOT_FOLDER> <CLIENT_COUNT> [SEED]";
+    static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    static final String[] POLICY_NAMES = {"Health", "Life", "Travel", "Home", "Motor", "Critical",
+        "Disability", "Retirement", "Education", "Personal Accident"};
+    private static final String[] FIRST_NAMES = {"Alex", "Wei Ling", "Muhammad", "Priya", "Jun Jie", "Siti",
+        "Daniel", "Mei Xin", "Arjun", "Nurul", "Ethan", "Hui Min"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Ng", "Wong", "Lee", "Abdullah", "Kumar", "Chua",
+        "Goh", "Rahman", "Ong", "Teo"};
+    private static final String[] TODO_ACTIONS = {"Review portfolio", "Send renewal notice", "Collect documents",
+        "Follow up on claim", "Schedule annual review"};
+    private static final String[] MEETING_TITLES = {"Annual review", "Policy walkthrough", "Claims discussion",
+        "Renewal", "Introduction"};
+    private static final String NRIC_CHECK_LETTERS = "JZIHGFEDCBA";
+    private static final int[] NRIC_WEIGHTS = {2, 7, 6, 5, 4, 3, 2};
+    private static final int NRIC_DIGIT_RANGE = 10_000_000;
+    private static final int NRIC_STRIDE = 7_654_321;
+    private static final LocalDate FIRST_START_DATE = LocalDate.of(2015, 1, 1);
+    private static final LocalDate FIRST_DUE_DATE = LocalDate.of(2025, 1, 1);
+    private static final int DATE_SPREAD_DAYS = 3650;
+    private static final int GENERAL_TASK_COUNT = 20;
+
+    private final long seed;
+    private final int clientCount;
+    private final int archivedCount;
+    private final int meetingCount;
+    private final int maxContractsPerClient;
+    private final int maxTodosPerClient;
+
+    /**
+     * Creates a generator with the default mix: 5% as many archived clients, 10% as many meetings,
+     * and up to 3 contracts and 3 to-dos per client.
+     *
+     * @param seed        The seed all random choices are derived from.
+     * @param clientCount The number of active clients.
+     */
+    public DataGenerator(long seed, int clientCount) {
+        this(seed, clientCount, clientCount / 20, clientCount / 10, 3, 3);
+    }
+
+    /**
+     * Creates a generator with the given sizes.
+     *
+     * @param seed                  The seed all random choices are derived from.
+     * @param clientCount           The number of active clients.
+     * @param archivedCount         The number of archived clients.
+     * @param meetingCount          The number of meetings.
+     * @param maxContractsPerClient The maximum number of policy contracts per client.
+     * @param maxTodosPerClient     The maximum number of to-dos per client.
+     */
+    public DataGenerator(long seed, int clientCount, int archivedCount, int meetingCount,
+            int maxContractsPerClient, int maxTodosPerClient) {
+        if (clientCount < 0 || archivedCount < 0 || clientCount + archivedCount > MAX_CLIENTS) {
+            throw new IllegalArgumentException("The number of clients must be between 0 and " + MAX_CLIENTS + ".");
+        }
+        if (meetingCount < 0 || maxContractsPerClient < 0 || maxContractsPerClient > POLICY_NAMES.length
+                || maxTodosPerClient < 0) {
+            throw new IllegalArgumentException("Meeting, contract and to-do counts must not be negative, and a "
+                    + "client can hold at most " + POLICY_NAMES.length + " contracts.");
+        }
+        this.seed = seed;
+        this.clientCount = clientCount;
+        this.archivedCount = archivedCount;
+        this.meetingCount = meetingCount;
+        this.maxContractsPerClient = maxContractsPerClient;
+        this.maxTodosPerClient = maxTodosPerClient;
+    }
+
+    /**
+     * Returns a valid NRIC that is unique to the given index.
+     * The digits are a permutation of the index, so consecutive clients do not get consecutive NRICs, and the
+     * last letter is the real checksum letter.
+     *
+     * @param index The client index, from 0 (inclusive) to {@link #MAX_CLIENTS} (exclusive).
+     * @return The NRIC for that index.
+     */
+    public static String nric(int index) {
+        assert index >= 0 && index < MAX_CLIENTS : "Index must be within the NRIC range";
+        char prefix = index < NRIC_DIGIT_RANGE ? 'S' : 'T';
+        int digits = (int) ((long) (index % NRIC_DIGIT_RANGE) * NRIC_STRIDE % NRIC_DIGIT_RANGE);
+        String digitString = String.format("%07d", digits);
+        int sum = prefix == 'T' ? 4 : 0;
+        for (int i = 0; i < NRIC_WEIGHTS.length; i++) {
+            sum += (digitString.charAt(i) - '0') * NRIC_WEIGHTS[i];
+        }
+        return prefix + digitString + NRIC_CHECK_LETTERS.charAt(sum % 11);
+    }
+
+    /**
+     * Writes the whole book to the given storage, replacing any data files it already holds.
+     *
+     * @param storage The storage to write to.
+     * @throws IOException If a file cannot be written.
+     */
+    public void generate(StorageManager storage) throws IOException {
+        Random random = new Random(seed);
+        storage.saveToFile("user.txt", List.of("n/Alex Tan e/alex@example.com c/91234567 r/FA-001"));
+        storage.saveToFile("policy.txt", policyLines());
+
+        List<String> clientLines = new ArrayList<>(clientCount);
+        List<String> clientNames = new ArrayList<>(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            String name = randomName(random);
+            String nric = nric(i);
+            clientNames.add(name);
+            clientLines.add(clientLine(name, nric, random));
+            storage.saveClientPolicies(nric, contractLines(random));
+            storage.saveClientTasks(nric, todoLines(random));
+        }
+        storage.saveToFile("client.txt", clientLines);
+
+        List<String> archivedLines = new ArrayList<>(archivedCount);
+        for (int i = 0; i < archivedCount; i++) {
+            archivedLines.add(clientLine(randomName(random), nric(clientCount + i), random));
+        }
+        storage.saveToFile("archived_clients.txt", archivedLines);
+
+        List<String> meetingLines = new ArrayList<>(meetingCount);
+        for (int i = 0; i < meetingCount && !clientNames.isEmpty(); i++) {
+            meetingLines.add(meetingLine(clientNames.get(random.nextInt(clientNames.size())), random));
+        }
+        storage.saveToFile("meeting.txt", meetingLines);
+
+        List<String> taskLines = new ArrayList<>();
+        for (int i = 0; i < GENERAL_TASK_COUNT; i++) {
+            taskLines.add(todoLine(random));
+        }
+        storage.saveToFile("task.txt", taskLines);
+    }
+
+    private List<String> policyLines() {
+        List<String> lines = new ArrayList<>();
+        for (String name : POLICY_NAMES) {
+            lines.add("n/" + name + " d/" + name + " coverage plan");
+        }
+        return lines;
+    }
+
+    private String randomName(Random random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private String clientLine(String name, String nric, Random random) {
+        int phoneNumber = (random.nextBoolean() ? 80_000_000 : 90_000_000) + random.nextInt(10_000_000);
+        return String.format("n/%s id/%s c/%d", name, nric, phoneNumber);
+    }
+
+    private List<String> contractLines(Random random) {
+        int contractCount = random.nextInt(maxContractsPerClient + 1);
+        int firstPolicy = random.nextInt(POLICY_NAMES.length);
+        List<String> lines = new ArrayList<>(contractCount);
+        for (int i = 0; i < contractCount; i++) {
+            String policyName = POLICY_NAMES[(firstPolicy + i) % POLICY_NAMES.length];
+            LocalDate startDate = FIRST_START_DATE.plusDays(random.nextInt(DATE_SPREAD_DAYS));
+            LocalDate expiryDate = startDate.plusYears(1 + random.nextInt(30));
+            int premiumCents = 5_000 + random.nextInt(95_000);
+            lines.add(String.format("p/%s m/%d.%02d s/%s e/%s", policyName, premiumCents / 100, premiumCents % 100,
+                    startDate.format(DATE_FORMATTER), expiryDate.format(DATE_FORMATTER)));
+        }
+        return lines;
+    }
+
+    private List<String> todoLines(Random random) {
+        int todoCount = random.nextInt(maxTodosPerClient + 1);
+        List<String> lines = new ArrayList<>(todoCount);
+        for (int i = 0; i < todoCount; i++) {
+            lines.add(todoLine(random));
+        }
+        return lines;
+    }
+
+    private String todoLine(Random random) {
+        LocalDate dueDate = FIRST_DUE_DATE.plusDays(random.nextInt(DATE_SPREAD_DAYS / 5));
+        return "d/" + TODO_ACTIONS[random.nextInt(TODO_ACTIONS.length)] + " by/" + dueDate.format(DATE_FORMATTER);
+    }
+
+    private String meetingLine(String clientName, Random random) {
+        LocalDate date = FIRST_DUE_DATE.plusDays(random.nextInt(DATE_SPREAD_DAYS / 5));
+        int startHour = 9 + random.nextInt(8);
+        return String.format("t/%s c/%s d/%s from/%02d:00 to/%02d:00",
+                MEETING_TITLES[random.nextInt(MEETING_TITLES.length)], clientName, date.format(DATE_FORMATTER),
+                startHour, startHour + 1);
+    }
+
+    /**
+     * Generates a book from the command line.
+     * Example: {@code DataGenerator build/scale 100000 42} writes {@code build/scale/data/}.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 3) {
+            System.out.println(USAGE);
+            return;
+        }
+        try {
+            int clientCount = Integer.parseInt(args[1]);
+            long seed = args.length == 3 ? Long.parseLong(args[2]) : 0L;
+            long startTime = System.nanoTime();
+            new DataGenerator(seed, clientCount).generate(new StorageManager(args[0]));
+            long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+            System.out.println("Generated " + clientCount + " clients in " + args[0] + " (" + elapsedMillis + " ms).");
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number: " + e.getMessage() + "\n" + USAGE);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not generate data: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package seedu.duke.tools;
+
+import seedu.duke.FinanceProPlus;
+import seedu.duke.metrics.CommandMetrics;
+import seedu.duke.metrics.LatencyHistogram;
+import seedu.duke.storage.StorageManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a generated stream of commands against the application in-process and reports throughput and latency.
+ * The book is generated first with {@link DataGenerator}, so a run only depends on its arguments. With a target
+ * rate, command i is due at {@code i / rate} seconds; latency is measured from when a command was due rather than
+ * when it started, so time spent queued behind a slow command is not hidden.
+ */
+public class LoadHarness {
+    private static final String USAGE = "Usage: LoadHarness <ROOT_FOLDER> <CLIENT_COUNT> <COMMAND_COUNT> "
+            + "[RATE_PER_SECOND] [SEED] [MIX, e.g. add=10,search=40,addpolicy=15,updatepolicy=15,list=5,forecast=15]";
+    private static final String ROW_FORMAT = "%-14s %8s %10s %10s %10s %10s";
+    private static final LocalDate FIRST_START_DATE = LocalDate.of(2025, 1, 1);
+
+    /**
+     * The kinds of command a replayed stream is made of.
+     */
+    public enum Kind {
+        ADD, SEARCH, ADDPOLICY, UPDATEPOLICY, LIST, FORECAST
+    }
+
+    /**
+     * One command of the stream, with its kind for reporting.
+     */
+    public static class Step {
+        private final Kind kind;
+        private final String input;
+
+        Step(Kind kind, String input) {
+            this.kind = kind;
+            this.input = input;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getInput() {
+            return input;
+        }
+    }
+
+    private final long seed;
+    private final int clientCount;
+    private final int commandCount;
+    private final double ratePerSecond;
+    private final Map<Kind, Integer> mix;
+
+    /**
+     * Creates a harness.
+     *
+     * @param seed          The seed used for both the book and the command stream.
+     * @param clientCount   The number of clients in the generated book.
+     * @param commandCount  The number of commands to replay.
+     * @param ratePerSecond The target rate, or 0 to replay as fast as possible.
+     * @param mix           The relative weight of each kind of command.
+     */
+    public LoadHarness(long seed, int clientCount, int commandCount, double ratePerSecond, Map<Kind, Integer> mix) {
+        if (clientCount < 1 || commandCount < 0 || ratePerSecond < 0) {
+            throw new IllegalArgumentException("There must be at least one client, and the command count and rate "
+                    + "must not be negative.");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("At least one kind of command must have a positive weight.");
+        }
+        this.seed = seed;
+        this.clientCount = clientCount;
+        this.commandCount = commandCount;
+        this.ratePerSecond = ratePerSecond;
+        this.mix = new EnumMap<>(mix);
+    }
+
+    /**
+     * Returns the default mix, dominated by lookups with a steady share of contract changes.
+     */
+    public static Map<Kind, Integer> defaultMix() {
+        Map<Kind, Integer> mix = new EnumMap<>(Kind.class);
+        mix.put(Kind.ADD, 10);
+        mix.put(Kind.SEARCH, 40);
+        mix.put(Kind.ADDPOLICY, 15);
+        mix.put(Kind.UPDATEPOLICY, 15);
+        mix.put(Kind.LIST, 5);
+        mix.put(Kind.FORECAST, 15);
+        return mix;
+    }
+
+    /**
+     * Parses a mix such as {@code add=10,search=40}. Kinds that are left out get no commands.
+     *
+     * @param text The mix, as comma-separated {@code kind=weight} pairs.
+     * @return The weight of each kind.
+     * @throws IllegalArgumentException If a kind or weight is invalid.
+     */
+    public static Map<Kind, Integer> parseMix(String text) {
+        Map<Kind, Integer> mix = new EnumMap<>(Kind.class);
+        for (String pair : text.split(",")) {
+            String[] parts = pair.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + pair);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights must not be negative: " + pair);
+            }
+            mix.put(Kind.valueOf(parts[0].trim().toUpperCase()), weight);
+        }
+        return mix;
+    }
+
+    /**
+     * Generates the command stream. The same arguments always produce the same stream.
+     * Contracts are only updated after the stream has added them, so updates always target existing contracts;
+     * if none has been added yet, the update becomes an add.
+     *
+     * @return The commands, in replay order.
+     */
+    public List<Step> generateCommands() {
+        Random random = new Random(seed ^ 0x5DEECE66DL);
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int nextNewClient = clientCount + clientCount / 20;
+        List<String> addedContracts = new ArrayList<>();
+        List<Step> steps = new ArrayList<>(commandCount);
+        for (int i = 0; i < commandCount; i++) {
+            Kind kind = pickKind(random.nextInt(totalWeight));
+            if (kind == Kind.UPDATEPOLICY && addedContracts.isEmpty()) {
+                kind = Kind.ADDPOLICY;
+            }
+            String nric = DataGenerator.nric(random.nextInt(clientCount));
+            switch (kind) {
+            case ADD:
+                steps.add(new Step(kind, String.format("client add n/Load Client %d c/%d id/%s", i,
+                        90_000_000 + random.nextInt(10_000_000), DataGenerator.nric(nextNewClient++))));
+                break;
+            case SEARCH:
+                steps.add(new Step(kind, "client search " + nric));
+                break;
+            case ADDPOLICY:
+                String policy = DataGenerator.POLICY_NAMES[random.nextInt(DataGenerator.POLICY_NAMES.length)];
+                LocalDate startDate = FIRST_START_DATE.plusDays(random.nextInt(365));
+                addedContracts.add("id/" + nric + " p/" + policy);
+                steps.add(new Step(kind, String.format("client addpolicy id/%s p/%s s/%s e/%s m/%d.00", nric, policy,
+                        startDate.format(DataGenerator.DATE_FORMATTER),
+                        startDate.plusYears(10).format(DataGenerator.DATE_FORMATTER), 50 + random.nextInt(950))));
+                break;
+            case UPDATEPOLICY:
+                String contract = addedContracts.get(random.nextInt(addedContracts.size()));
+                steps.add(new Step(kind, String.format("client updatepolicy %s m/%d.50", contract,
+                        50 + random.nextInt(950))));
+                break;
+            case LIST:
+                steps.add(new Step(kind, "list client"));
+                break;
+            case FORECAST:
+                steps.add(new Step(kind, "meeting forecast"));
+                break;
+            default:
+                throw new AssertionError("Unknown kind: " + kind);
+            }
+        }
+        return steps;
+    }
+
+    private Kind pickKind(int roll) {
+        for (Map.Entry<Kind, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new AssertionError("Roll exceeds the total weight");
+    }
+
+    /**
+     * Generates the book, loads it and replays the command stream against it.
+     * Output of the replayed commands is discarded.
+     *
+     * @param rootFolder The folder to generate the book in; its data files are replaced.
+     * @return The report lines.
+     * @throws IOException If the book cannot be generated.
+     */
+    public List<String> run(String rootFolder) throws IOException {
+        StorageManager storage = new StorageManager(rootFolder);
+        new DataGenerator(seed, clientCount).generate(storage);
+        List<Step> steps = generateCommands();
+        FinanceProPlus app = new FinanceProPlus(storage);
+        return replay(app, steps);
+    }
+
+    /**
+     * Replays the steps against the application at the configured rate.
+     *
+     * @param app   The application to send the commands to.
+     * @param steps The commands to replay.
+     * @return The report lines.
+     */
+    public List<String> replay(FinanceProPlus app, List<Step> steps) {
+        Map<Kind, LatencyHistogram> latencies = new EnumMap<>(Kind.class);
+        LatencyHistogram overall = new LatencyHistogram();
+        CommandMetrics.reset();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long startTime = System.nanoTime();
+        try {
+            for (int i = 0; i < steps.size(); i++) {
+                long dueTime = ratePerSecond == 0 ? System.nanoTime() : startTime + (long) (i * 1e9 / ratePerSecond);
+                long waitNanos = dueTime - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                Step step = steps.get(i);
+                app.processCommand(step.getInput());
+                long latency = System.nanoTime() - dueTime;
+                latencies.computeIfAbsent(step.getKind(), kind -> new LatencyHistogram()).record(latency);
+                overall.record(latency);
+            }
+        } finally {
+            System.setOut(originalOut);
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        return report(steps.size(), elapsedNanos, latencies, overall);
+    }
+
+    private List<String> report(int count, long elapsedNanos, Map<Kind, LatencyHistogram> latencies,
+            LatencyHistogram overall) {
+        List<String> lines = new ArrayList<>();
+        double seconds = elapsedNanos / 1e9;
+        String target = ratePerSecond == 0 ? "unthrottled" : String.format("target %.1f/s", ratePerSecond);
+        lines.add(String.format("Replayed %d commands against %d clients in %.2f s: %.1f commands/s (%s).",
+                count, clientCount, seconds, seconds == 0 ? 0 : count / seconds, target));
+        lines.add(String.format(ROW_FORMAT, "Kind", "Count", "p50", "p95", "p99", "Max"));
+        for (Map.Entry<Kind, LatencyHistogram> entry : latencies.entrySet()) {
+            lines.add(row(entry.getKey().name().toLowerCase(), entry.getValue()));
+        }
+        lines.add(row("all", overall));
+        lines.add("Phase breakdown:");
+        lines.addAll(CommandMetrics.report());
+        return lines;
+    }
+
+    private String row(String name, LatencyHistogram histogram) {
+        return String.format(ROW_FORMAT, name, histogram.getCount(),
+                CommandMetrics.formatNanos(histogram.getPercentile(50)),
+                CommandMetrics.formatNanos(histogram.getPercentile(95)),
+                CommandMetrics.formatNanos(histogram.getPercentile(99)),
+                CommandMetrics.formatNanos(histogram.getMax()));
+    }
+
+    /**
+     * Runs the harness from the command line.
+     * Example: {@code LoadHarness build/load 10000 2000 50 42} replays 2000 commands at 50 per second against a
+     * book of 10000 clients in {@code build/load/data/}.
+     */
+    public static void main(String[] args) {
+        if (args.length < 3 || args.length > 6) {
+            System.out.println(USAGE);
+            return;
+        }
+        try {
+            int clientCount = Integer.parseInt(args[1]);
+            int commandCount = Integer.parseInt(args[2]);
+            double rate = args.length > 3 ? Double.parseDouble(args[3]) : 0;
+            long seed = args.length > 4 ? Long.parseLong(args[4]) : 0L;
+            Map<Kind, Integer> mix = args.length > 5 ? parseMix(args[5]) : defaultMix();
+            LoadHarness harness = new LoadHarness(seed, clientCount, commandCount, rate, mix);
+            for (String line : harness.run(args[0])) {
+                System.out.println(line);
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number: " + e.getMessage() + "\n" + USAGE);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not run the load test: " + e.getMessage());
+        }
+    }
+}
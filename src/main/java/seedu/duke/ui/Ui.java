@@ -1,11 +1,13 @@
 package seedu.duke.ui;
 
+import java.util.List;
 import java.util.Scanner;
 /**
  * Ui class handles user interactions, including input and output.
  * Adopted from IP of ZT712002
  */
 public class Ui {
+    public static final int MAX_PRINTED_REMINDERS = 10;
     private  Scanner in;
     private boolean isActive;
     private String userInput;
@@ -47,6 +49,28 @@ public class Ui {
         System.out.println("What is your command?");
     }
 
+    /**
+     * Prints the given reminders followed by how many more are waiting for the next prompt.
+     * Prints nothing if there are none.
+     *
+     * @param reminders    The texts of the reminders, soonest first.
+     * @param waitingCount How many more reminders are due.
+     */
+    public void printReminders(List<String> reminders, int waitingCount) {
+        if (reminders.isEmpty()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder("Reminders:").append(System.lineSeparator());
+        for (String reminder : reminders) {
+            sb.append("- ").append(reminder).append(System.lineSeparator());
+        }
+        if (waitingCount > 0) {
+            sb.append("... and ").append(waitingCount).append(" more at the next prompt.")
+                    .append(System.lineSeparator());
+        }
+        System.out.print(sb);
+    }
+
     public void printLineDivider() {
         System.out.println("*************************************");
     }
@@ -3,6 +3,8 @@ package seedu.duke.user;
 
 import seedu.duke.container.ListContainer;
 import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.history.Change;
+import seedu.duke.history.ChangeJournal;
 
 import java.util.logging.Logger;
 
@@ -16,7 +18,7 @@ import java.util.List;
  */
 public class UserList implements ListContainer {
     private static final Logger logger = Logger.getLogger(UserList.class.getName());
-    private User user;
+    private volatile User user;
 
     public UserList() {
         this.user = null;
@@ -30,14 +32,15 @@ public class UserList implements ListContainer {
      * @throws FinanceProPlusException if a user already exists or the arguments are invalid.
      */
     @Override
-    public void addItem(String arguments) throws FinanceProPlusException {
+    public synchronized void addItem(String arguments) throws FinanceProPlusException {
         assert arguments != null && !arguments.trim().isEmpty()
                 : "Arguments for adding a user cannot be null or empty";
         if (user != null) {
             logger.warning("Attempted to add a new user when one already exists.");
             throw new FinanceProPlusException("A user already exists. Edit user to update information.");
         }
-        user = new User(arguments);
+        User newUser = new User(arguments);
+        replaceUser(newUser);
         assert user != null : "User object should have been successfully created";
         System.out.println("Noted. I've added this user:");
         System.out.println(user.toString());
@@ -91,7 +94,7 @@ public class UserList implements ListContainer {
      * @param lines storage lines; may be empty.
      * @throws FinanceProPlusException if a line is malformed.
      */
-    public void loadFromStorage(List<String> lines) throws FinanceProPlusException {
+    public synchronized void loadFromStorage(List<String> lines) throws FinanceProPlusException {
         if (lines.isEmpty()) {
             return;
         }
@@ -107,6 +110,12 @@ public class UserList implements ListContainer {
         return rows;
     }
 
+    private synchronized void replaceUser(User newUser) {
+        User oldUser = user;
+        user = newUser;
+        ChangeJournal.record(Change.of(() -> user = oldUser, () -> user = newUser));
+    }
+
     public boolean hasUser() {
         return user != null;
     }
@@ -116,12 +125,12 @@ public class UserList implements ListContainer {
      * @param arguments serialized user fields.
      * @throws FinanceProPlusException if the arguments are invalid.
      */
-    public void editUser(String arguments) throws FinanceProPlusException {
+    public synchronized void editUser(String arguments) throws FinanceProPlusException {
 
         assert arguments != null && !arguments.trim().isEmpty() : "Arguments for edit cannot be null or empty";
         System.out.println("Updating user details");
         User newUser = new User(arguments);
-        user = newUser;
+        replaceUser(newUser);
         System.out.println(user);
     }
 
@@ -0,0 +1,76 @@
+package seedu.duke;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * A time and allocation budget for one operation of the performance gate.
+ * Each limit can be overridden with a system property, e.g. {@code -Dfinanceproplus.perf.load.micros=60000000}, so a
+ * slower machine can loosen the gate without editing the tests.
+ */
+class Budget {
+    private static final String PROPERTY_PREFIX = "financeproplus.perf.";
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * An operation that is measured against a budget.
+     */
+    interface Operation {
+        void run() throws Exception;
+    }
+
+    private final String name;
+    private final long maxNanos;
+    private final long maxAllocatedBytes;
+
+    /**
+     * Creates a budget.
+     *
+     * @param name              The name of the operation, also used in the names of the override properties.
+     * @param maxMicros         The default time limit for all repetitions together, in microseconds.
+     * @param maxAllocatedBytes The default allocation limit for all repetitions together, in bytes.
+     */
+    Budget(String name, long maxMicros, long maxAllocatedBytes) {
+        this.name = name;
+        this.maxNanos = Long.getLong(PROPERTY_PREFIX + name + ".micros", maxMicros) * 1_000;
+        this.maxAllocatedBytes = Long.getLong(PROPERTY_PREFIX + name + ".bytes", maxAllocatedBytes);
+    }
+
+    /**
+     * Runs the operation the given number of times on the calling thread and fails if the time or the bytes
+     * allocated exceed the budget. Allocation is summed over all threads, so work handed to the save writers counts
+     * too. The result is printed either way, so the budgets can be tuned.
+     *
+     * @param repetitions How many times to run the operation.
+     * @param operation   The operation to measure.
+     */
+    void check(int repetitions, Operation operation) throws Exception {
+        long allocatedBefore = allocatedByAllThreads();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            operation.run();
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        long allocatedBytes = allocatedByAllThreads() - allocatedBefore;
+        String result = String.format("%s x%d: %.1f ms (budget %.1f ms), %,d bytes allocated (budget %,d)", name,
+                repetitions, elapsedNanos / 1e6, maxNanos / 1e6, allocatedBytes, maxAllocatedBytes);
+        System.out.println(result);
+        if (elapsedNanos > maxNanos || allocatedBytes > maxAllocatedBytes) {
+            fail("Performance budget exceeded: " + result);
+        }
+    }
+
+    /**
+     * Returns the bytes allocated so far by the threads that are alive. Threads that end during an operation drop
+     * out of the sum, so the save writers are kept alive between saves.
+     */
+    private static long allocatedByAllThreads() {
+        long total = 0;
+        for (long bytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+            total += Math.max(0, bytes);
+        }
+        return total;
+    }
+}
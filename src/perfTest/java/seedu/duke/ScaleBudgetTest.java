@@ -0,0 +1,86 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import seedu.duke.client.Client;
+import seedu.duke.client.ClientList;
+import seedu.duke.storage.StorageManager;
+import seedu.duke.tools.DataGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Coarse budgets on a book of 50,000 clients, meant to catch accidental quadratic behaviour rather than small
+ * regressions. Run with {@code ./gradlew perfTest}. The budgets leave about three times the time and the allocation
+ * measured on a developer machine as headroom: loading allocates about 1.3 GB, saving after one edit about 360 MB
+ * and the lookups almost nothing.
+ */
+class ScaleBudgetTest {
+    private static final String ROOT = "build/perf";
+    private static final int CLIENT_COUNT = 50_000;
+    private static final int LOOKUPS = 1_000_000;
+
+    private static StorageManager storage;
+    private static FinanceProPlus app;
+
+    @BeforeAll
+    static void generateBook() throws IOException {
+        TestFiles.deleteRecursively(new File(ROOT));
+        storage = new StorageManager(ROOT);
+        new DataGenerator(42, CLIENT_COUNT).generate(storage);
+    }
+
+    @AfterAll
+    static void deleteBook() throws IOException {
+        TestFiles.deleteRecursively(new File(ROOT));
+    }
+
+    private static FinanceProPlus loadedApp() {
+        if (app == null) {
+            app = new FinanceProPlus(storage);
+        }
+        return app;
+    }
+
+    @Test
+    void loadFromFiles_50kClients_withinBudget() throws Exception {
+        Budget budget = new Budget("load", 30_000_000, 4_000_000_000L);
+        budget.check(1, () -> app = new FinanceProPlus(storage));
+        assertEquals(CLIENT_COUNT, ((ClientList) app.getLookUpTable().getList("client")).size());
+    }
+
+    @Test
+    void findClientByNric_50kClients_withinBudget() throws Exception {
+        ClientList clients = (ClientList) loadedApp().getLookUpTable().getList("client");
+        String[] nrics = new String[1024];
+        for (int i = 0; i < nrics.length; i++) {
+            nrics[i] = DataGenerator.nric(i * (CLIENT_COUNT / nrics.length));
+        }
+        Client[] found = new Client[1];
+        // Warm up so the budget measures compiled code.
+        for (int i = 0; i < LOOKUPS; i++) {
+            found[0] = clients.findClientByNric(nrics[i & (nrics.length - 1)]);
+        }
+        int[] next = new int[1];
+        Budget budget = new Budget("lookup", LOOKUPS * 2L, 1_000_000);
+        budget.check(LOOKUPS, () -> found[0] = clients.findClientByNric(nrics[next[0]++ & (nrics.length - 1)]));
+        assertNotNull(found[0]);
+    }
+
+    @Test
+    void saveAfterSingleEdit_50kClients_withinBudget() throws Exception {
+        FinanceProPlus loaded = loadedApp();
+        String nric = DataGenerator.nric(0);
+        loaded.processCommand("client addpolicy id/" + nric + " p/Education s/01-01-2025 e/01-01-2035 m/100.00");
+        Budget budget = new Budget("edit", 20_000_000, 1_000_000_000L);
+        budget.check(1, () -> loaded.processCommand("client updatepolicy id/" + nric + " p/Education m/120.00"));
+        assertEquals(1, Files.readAllLines(new File(ROOT + "/data/client_policies/" + nric + ".txt").toPath())
+                .stream().filter(line -> line.contains("m/120.00")).count());
+    }
+}
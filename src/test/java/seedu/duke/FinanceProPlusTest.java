@@ -0,0 +1,106 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.storage.CompressedRecordFile;
+import seedu.duke.storage.CompressedRecordFile.Location;
+import seedu.duke.storage.StorageManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class FinanceProPlusTest {
+    private static final String ROOT = "test_app_root";
+    private static final String CONTRACT = "p/Health m/100.00 s/01-01-2024 e/31-12-2030";
+    private static final List<String> ARCHIVED_RECORD = List.of("n/Alice id/S1234567A c/98765432", "1", CONTRACT);
+    private final PrintStream originalOut = System.out;
+    private StorageManager storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        storage = new StorageManager(ROOT);
+        storage.saveToFile("policy.txt", List.of("n/Health d/Health cover"));
+        storage.saveToFile("client.txt", List.of("n/Bob Tan id/S1234568B c/91234567"));
+        storage.saveClientPolicies("S1234568B", List.of(CONTRACT));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        System.setOut(originalOut);
+        TestFiles.deleteRecursively(new File(ROOT));
+    }
+
+    @Test
+    void loadFromFiles_archiveEntryOutsideColdFile_keepsActiveClientsAndArchiveIndex() throws IOException {
+        String damagedEntry = "id/S1234567A n/Alice o/9999 l/80";
+        storage.saveToFile("archived_clients.txt", List.of(damagedEntry));
+
+        FinanceProPlus app = new FinanceProPlus(storage);
+        app.processCommand("list client");
+
+        assertEquals(List.of(CONTRACT), storage.loadClientPolicies("S1234568B"));
+        assertEquals(List.of(damagedEntry), storage.loadFromFile("archived_clients.txt"));
+    }
+
+    @Test
+    void startup_coldArchiveMostlyUnused_compactsItAndRestoresFromIt() throws IOException {
+        CompressedRecordFile coldFile = storage.openRecordFile("archived_clients.cold");
+        coldFile.append(List.of(unusedRecord()));
+        Location location = coldFile.append(List.of(ARCHIVED_RECORD)).get(0);
+        storage.saveToFile("archived_clients.txt", List.of(indexLine(location)));
+
+        FinanceProPlus app = new FinanceProPlus(storage);
+
+        assertEquals(location.getLength(), coldFile.size());
+        assertEquals(List.of(indexLine(new Location(0, location.getLength()))),
+                storage.loadFromFile("archived_clients.txt"));
+        app.processCommand("client restore 1");
+        assertEquals(List.of(CONTRACT), storage.loadClientPolicies("S1234567A"));
+    }
+
+    @Test
+    void startup_compactionInterruptedAfterIndexWritten_finishesIt() throws IOException {
+        storage.openRecordFile("archived_clients.cold").append(List.of(unusedRecord()));
+        Location location = storage.openRecordFile("archived_clients.cold.compact")
+                .append(List.of(ARCHIVED_RECORD)).get(0);
+        storage.saveToFile("archived_clients.compact.txt", List.of(indexLine(location)));
+        storage.saveToFile("archived_clients.txt", List.of("id/S1234567A n/Alice o/9999 l/80"));
+
+        new FinanceProPlus(storage).processCommand("client restore 1");
+
+        assertEquals(List.of(CONTRACT), storage.loadClientPolicies("S1234567A"));
+        assertFalse(storage.hasFile("archived_clients.compact.txt"));
+        assertFalse(storage.hasFile("archived_clients.cold.compact"));
+    }
+
+    private static String indexLine(Location location) {
+        return String.format("id/S1234567A n/Alice c/98765432 o/%d l/%d t/0 p/Health", location.getOffset(),
+                location.getLength());
+    }
+
+    /**
+     * Returns a record of random text large enough to be worth compacting away.
+     */
+    private static List<String> unusedRecord() {
+        Random random = new Random(42);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            StringBuilder line = new StringBuilder();
+            for (int j = 0; j < 1000; j++) {
+                line.append((char) ('a' + random.nextInt(26)));
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
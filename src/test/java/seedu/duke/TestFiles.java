@@ -0,0 +1,30 @@
+package seedu.duke;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * File helpers shared by the tests that write to disk.
+ */
+public final class TestFiles {
+
+    private TestFiles() {
+    }
+
+    /**
+     * Deletes the file, or the folder and everything in it. Does nothing if it does not exist.
+     *
+     * @param file The file or folder to delete.
+     * @throws IOException If something could not be deleted.
+     */
+    public static void deleteRecursively(File file) throws IOException {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        Files.deleteIfExists(file.toPath());
+    }
+}
@@ -3,18 +3,26 @@ package seedu.duke.client;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.duke.TestFiles;
 import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.policy.Policy;
 import seedu.duke.policy.PolicyList;
+import seedu.duke.storage.CompressedRecordFile;
+import seedu.duke.storage.StorageManager;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ArchivedClientListTest {
+    private static final String COLD_ROOT = "test_archive_root";
 
     private ArchivedClientList archivedClientList;
     private Client testClient;
@@ -30,8 +38,19 @@ class ArchivedClientListTest {
     }
 
     @AfterEach
-    void tearDown() {
+    void tearDown() throws IOException {
         System.setOut(originalOut);
+        TestFiles.deleteRecursively(new File(COLD_ROOT));
+    }
+
+    private PolicyList catalogWithHealth() throws FinanceProPlusException {
+        PolicyList catalog = new PolicyList();
+        catalog.addPolicy(new Policy("n/Health d/Hospital cover", true));
+        return catalog;
+    }
+
+    private CompressedRecordFile coldFile() {
+        return new StorageManager(COLD_ROOT).openRecordFile("archived_clients.cold");
     }
 
     @Test
@@ -168,4 +187,86 @@ class ArchivedClientListTest {
         assertEquals("NRIC", header[2]);
         assertEquals("Policies", header[3]);
     }
+
+    @Test
+    void archiveClient_coldFile_restoresContractsAndTodos() throws FinanceProPlusException {
+        PolicyList catalog = catalogWithHealth();
+        ArchivedClientList coldList = new ArchivedClientList(coldFile(), catalog);
+        testClient.addPolicy(ClientList.parseContract("p/Health m/120.50 s/01-01-2024 e/31-12-2030", catalog));
+        testClient.addTodo("d/Call back by/01-01-2030");
+
+        coldList.archiveClient(testClient);
+        assertEquals("id/S1234567A n/John Doe c/12345678 o/0 l/ t/1 p/Health", coldList.toStorageFormat().get(0)
+                .replaceAll("l/\\d+ ", "l/ "));
+        assertEquals("Health", coldList.toCSVFormat().get(1)[3]);
+
+        Client restored = coldList.restoreClient(0);
+        assertTrue(coldList.isEmpty());
+        assertEquals("John Doe", restored.getName());
+        assertEquals(testClient.policiesToStorageFormat(), restored.policiesToStorageFormat());
+        assertEquals(testClient.todosToStorageFormat(), restored.todosToStorageFormat());
+    }
+
+    @Test
+    void loadFromStorage_coldFile_keepsIndexAndMigratesClientLines() throws FinanceProPlusException {
+        PolicyList catalog = catalogWithHealth();
+        ArchivedClientList coldList = new ArchivedClientList(coldFile(), catalog);
+        coldList.archiveClient(testClient);
+        List<String> saved = List.of(coldList.toStorageFormat().get(0), "n/Jane Smith c/87654321 id/S7654321B");
+
+        ArchivedClientList reloaded = new ArchivedClientList(coldFile(), catalog);
+        reloaded.loadFromStorage(saved, catalog);
+        assertTrue(reloaded.hasUnsavedChanges());
+        assertTrue(reloaded.toStorageFormat().get(1).startsWith("id/S7654321B n/Jane Smith c/87654321 o/"));
+        outContent.reset();
+        reloaded.listItems();
+        assertTrue(outContent.toString().contains("1. Name: John Doe"));
+        assertTrue(outContent.toString().contains("2. Name: Jane Smith"));
+        assertEquals("S7654321B", reloaded.restoreClient(1).getNric());
+    }
+
+    @Test
+    void loadFromStorage_indexLineWithoutDetails_completesItFromColdFile() throws FinanceProPlusException {
+        PolicyList catalog = catalogWithHealth();
+        ArchivedClientList coldList = new ArchivedClientList(coldFile(), catalog);
+        testClient.addPolicy(ClientList.parseContract("p/Health m/120.50 s/01-01-2024 e/31-12-2030", catalog));
+        coldList.archiveClient(testClient);
+        String indexLine = coldList.toStorageFormat().get(0);
+        String oldIndexLine = indexLine.replace(" c/12345678", "").replaceAll(" t/.*$", "");
+
+        ArchivedClientList reloaded = new ArchivedClientList(coldFile(), catalog);
+        reloaded.loadFromStorage(List.of(oldIndexLine), catalog);
+        assertTrue(reloaded.hasUnsavedChanges());
+        assertEquals(indexLine, reloaded.toStorageFormat().get(0));
+        assertEquals("12345678", reloaded.toCSVFormat().get(1)[1]);
+        assertEquals("Health", reloaded.toCSVFormat().get(1)[3]);
+    }
+
+    @Test
+    void loadFromStorage_entryOutsideColdFile_skipsItAndKeepsItsLine() throws FinanceProPlusException {
+        PolicyList catalog = catalogWithHealth();
+        ArchivedClientList coldList = new ArchivedClientList(coldFile(), catalog);
+        coldList.archiveClient(testClient);
+        String goodLine = coldList.toStorageFormat().get(0);
+        String damagedLine = "id/S7654321B n/Jane Smith o/9999 l/80";
+        String legacyDamagedLine = "id/S7654321C n/Ann Lee o/0 l/3";
+
+        ArchivedClientList reloaded = new ArchivedClientList(coldFile(), catalog);
+        reloaded.loadFromStorage(List.of(damagedLine, goodLine, legacyDamagedLine), catalog);
+
+        assertEquals(1, reloaded.size());
+        assertEquals("S1234567A", reloaded.getNric(0));
+        assertEquals(List.of(goodLine, damagedLine, legacyDamagedLine), reloaded.toStorageFormat());
+        assertEquals(2, reloaded.toCSVFormat().size());
+    }
+
+    @Test
+    void markSaved_afterArchive_clearsUnsavedChanges() throws FinanceProPlusException {
+        archivedClientList.archiveClient(testClient);
+        assertTrue(archivedClientList.hasUnsavedChanges());
+        archivedClientList.markSaved();
+        assertFalse(archivedClientList.hasUnsavedChanges());
+        archivedClientList.restoreClient(0);
+        assertTrue(archivedClientList.hasUnsavedChanges());
+    }
 }
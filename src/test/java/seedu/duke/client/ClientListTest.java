@@ -14,6 +14,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -386,6 +388,17 @@ class ClientListTest {
             assertTrue(testClient.hasPolicy("1233"));
         }
 
+        @Test
+        void deletePolicyForClient_clientWithoutContracts_printsNothingToDelete() throws FinanceProPlusException {
+            clientList.addItem("n/Client Two c/22222222 id/T2222222B", mainPolicyList);
+            outContent.reset();
+
+            clientList.deletePolicyForClient("id/T2222222B i/1");
+
+            assertTrue(outContent.toString().contains("No policies to delete."));
+            assertEquals(0, clientList.findClientByNric("T2222222B").getPolicyCount());
+        }
+
         @Test
         void deletePolicyForClient_clientNotFound_throwsException() {
             String deleteArgs = "id/FAKE_ID i/1";
@@ -428,4 +441,53 @@ class ClientListTest {
                     "and 'i/ parameter.", e.getMessage());
         }
     }
+
+    @Nested
+    class ConcurrencyTests {
+        @Test
+        void getClientList_snapshot_isUnaffectedByLaterAdds() throws FinanceProPlusException {
+            clientList.addItem("n/Alice c/91234567 id/S1234567A", mainPolicyList);
+            List<Client> snapshot = clientList.getClientList();
+            clientList.addItem("n/Bob c/98765432 id/S7654321B", mainPolicyList);
+            assertEquals(1, snapshot.size());
+            assertEquals(2, clientList.size());
+            assertThrows(UnsupportedOperationException.class, snapshot::clear);
+        }
+
+        @Test
+        void addItem_fromSeveralThreads_addsEveryClient() throws InterruptedException, FinanceProPlusException {
+            int threadCount = 4;
+            int clientsPerThread = 50;
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                int offset = t * clientsPerThread;
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < clientsPerThread; i++) {
+                        String nric = String.format("S%07dA", offset + i);
+                        try {
+                            clientList.addItem("n/Client c/91234567 id/" + nric, mainPolicyList);
+                        } catch (FinanceProPlusException e) {
+                            throw new AssertionError(e);
+                        }
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(threadCount * clientsPerThread, clientList.size());
+            assertNotNull(clientList.findClientByNric("S0000199A"));
+        }
+
+        @Test
+        void findClientByNric_afterRemoval_returnsNull() throws FinanceProPlusException {
+            clientList.addItem("n/Alice c/91234567 id/S1234567A", mainPolicyList);
+            clientList.removeClient(0);
+            assertNull(clientList.findClientByNric("S1234567A"));
+            assertTrue(clientList.isEmpty());
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package seedu.duke.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.history.History;
+import seedu.duke.policy.PolicyList;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClientRecordStoreTest {
+    private ClientRecordStore previousStore;
+    private ClientRecordStore store;
+
+    @BeforeEach
+    void setUp() {
+        previousStore = ClientRecordStore.getInstance();
+        store = new ClientRecordStore(64);
+        ClientRecordStore.setInstance(store);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ClientRecordStore.setInstance(previousStore);
+    }
+
+    @Test
+    void add_recordsSpanSegments_readBackUnchanged() {
+        long first = store.add("Alex Tan", 91234567);
+        long second = store.add("Nguy\u1ec5n Th\u1ecb Minh Khai Long Name", 81234567);
+        long third = store.add("Wei Ling", 98765432);
+        assertEquals("Alex Tan", store.getName(first));
+        assertEquals("Nguy\u1ec5n Th\u1ecb Minh Khai Long Name", store.getName(second));
+        assertEquals(98765432, store.getPhoneNumber(third));
+        assertEquals(3, store.getRecordCount());
+        assertEquals(2 * 64, store.getReservedBytes());
+    }
+
+    @Test
+    void add_recordLargerThanSegment_getsSegmentOfItsOwn() {
+        String longName = "A".repeat(100);
+        long handle = store.add(longName, 91234567);
+        assertEquals(longName, store.getName(handle));
+        assertEquals(108, store.getReservedBytes());
+    }
+
+    @Test
+    void client_storeEnabled_readsFieldsFromRecord() throws FinanceProPlusException {
+        ClientList clients = new ClientList();
+        clients.loadFromStorage(List.of("n/Alex Tan id/S1234567D c/91234567"), new PolicyList());
+        Client client = clients.findClientByNric("S1234567D");
+        assertEquals(1, store.getRecordCount());
+        assertEquals("Alex Tan", client.getName());
+        assertEquals("n/Alex Tan id/S1234567D c/91234567", client.toStorageString());
+        assertArrayEquals(new String[]{"Alex Tan", "91234567", "S1234567D", "none"}, client.toCSVRow());
+    }
+
+    @Test
+    void add_afterFree_reusesSlotAndSplitsWhatIsLeft() {
+        long freed = store.add("Alexandra Tan Mei Ling", 91234567);
+        store.add("Wei Ling", 98765432);
+        store.free(freed);
+
+        long first = store.add("Ali", 81234567);
+        long second = store.add("Bob Lim", 87654321);
+        assertEquals(freed, first);
+        assertEquals(freed + 11, second);
+        assertEquals("Ali", store.getName(first));
+        assertEquals("Bob Lim", store.getName(second));
+        assertEquals(3, store.getRecordCount());
+        assertEquals(64, store.getReservedBytes());
+    }
+
+    @Test
+    void client_removalNoLongerUndoable_recordIsFreed() throws FinanceProPlusException {
+        ClientList clients = new ClientList();
+        clients.loadFromStorage(List.of("n/Alex Tan id/S1234567D c/91234567", "n/Wei Ling id/S7654321B c/81234567"),
+                new PolicyList());
+        History history = new History();
+        history.beginCommand();
+        clients.removeClient(0);
+        history.endCommand(true);
+        history.undo();
+        history.redo();
+        assertEquals(2, store.getRecordCount());
+
+        history.discardUndoable();
+        assertEquals(1, store.getRecordCount());
+        assertEquals(0, store.add("Ali Bin", 98765432));
+        assertEquals("Wei Ling", clients.findClientByNric("S7654321B").getName());
+    }
+}
@@ -12,6 +12,7 @@ import seedu.duke.task.TaskList;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.math.BigDecimal;
 import java.util.Map;
 import java.util.List;
 
@@ -73,6 +74,16 @@ class   ClientTest {
 
 
 
+    @Test
+    void addTodo_onOneClient_leavesOtherClientsEmpty() throws FinanceProPlusException {
+        Client other = new Client("n/Other Client c/87654321 id/S7654321B", mainPolicyList);
+        client.addTodo("d/Call back by/01-01-2030");
+        assertEquals(1, client.getTodoCount());
+        assertEquals(0, other.getTodoCount());
+        assertEquals(List.of(), other.todosToStorageFormat());
+        assertEquals(List.of(), other.policiesToStorageFormat());
+    }
+
     @Test
     void constructor_validArgsNoPolicy_clientCreatedSuccessfully() throws FinanceProPlusException {
         String args = " n/John Doe  c/12345678  id/S1234567A ";
@@ -95,6 +106,16 @@ class   ClientTest {
                 " should remain unchanged.");
     }
 
+    @Test
+    void removePolicyFor_matchesCatalogPolicyNotName() throws FinanceProPlusException {
+        Policy basePolicy = new StubPolicy("HealthShield");
+        Policy sameNamePolicy = new StubPolicy("HealthShield");
+        client.addPolicy(new StubClientPolicy(basePolicy));
+        assertFalse(client.removePolicyFor(sameNamePolicy));
+        assertTrue(client.removePolicyFor(basePolicy));
+        assertEquals(0, client.getPolicyList().getPolicyList().size());
+    }
+
     @Test
     void removePolicyByName_clientHasNoPolicies_returnsFalse() {
         assertEquals(0, client.getPolicyList().getPolicyList().size());
@@ -269,5 +290,29 @@ class   ClientTest {
         assertTrue(output.contains("Contact: 999"));
     }
 
+    @Test
+    void viewDetails_afterContractOrTodoChange_showsCurrentDetails() throws FinanceProPlusException {
+        ClientPolicy contract = new StubClientPolicy(new StubPolicy("HealthShield"));
+        client.addPolicy(contract);
+        client.viewDetails();
+        String first = outContent.toString();
+        outContent.reset();
+        client.viewDetails();
+        assertEquals(first, outContent.toString());
+
+        outContent.reset();
+        contract.setMonthlyPremium(new BigDecimal("120.505"));
+        client.viewDetails();
+        assertTrue(outContent.toString().contains("Monthly Premium: $120.51"));
 
+        client.addTodo("d/Call back by/01-01-2030");
+        outContent.reset();
+        client.viewDetails();
+        assertTrue(outContent.toString().contains("1. Call back"));
+
+        client.removePolicyFor(contract.getBasePolicy());
+        outContent.reset();
+        client.viewDetails();
+        assertTrue(outContent.toString().contains("This client currently has no policies."));
+    }
 }
@@ -83,7 +83,6 @@ class RestoreCommandTest {
     void execute_emptyArchivedList_printsMessage() throws FinanceProPlusException {
         // Clear the archived list
         archivedClientList.restoreClient(0);
-        clientList.getClientList().clear();
         outContent.reset();
         
         restoreCommand.execute(lookUpTable);
@@ -0,0 +1,284 @@
+package seedu.duke.history;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.client.ClientList;
+import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.policy.ClientPolicy;
+import seedu.duke.policy.PolicyList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistoryTest {
+    private History history;
+    private ClientList clientList;
+    private PolicyList policyList;
+    private final PrintStream originalOut = System.out;
+
+    @BeforeEach
+    void setUp() throws FinanceProPlusException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        history = new History();
+        clientList = new ClientList();
+        policyList = new PolicyList();
+        policyList.addItem("n/Health d/Health cover");
+        clientList.addItem("n/John Doe c/12345678 id/S1234567A", policyList);
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    private void runCommand(String clientArguments) throws FinanceProPlusException {
+        history.beginCommand();
+        boolean hasSucceeded = false;
+        try {
+            clientList.addItem(clientArguments, policyList);
+            hasSucceeded = true;
+        } finally {
+            history.endCommand(hasSucceeded);
+        }
+    }
+
+    @Test
+    void rollback_afterSeveralCommands_revertsAllChanges() throws FinanceProPlusException {
+        history.begin();
+        runCommand("n/Jane Tan c/87654321 id/S7654321B");
+        runCommand("n/Ali Bin c/91234567 id/T1234567C");
+        assertEquals(3, clientList.getClientList().size());
+
+        int discarded = history.rollback();
+
+        assertEquals(2, discarded);
+        assertEquals(1, clientList.getClientList().size());
+        assertFalse(history.isInTransaction());
+    }
+
+    @Test
+    void commit_afterCommands_keepsChanges() throws FinanceProPlusException {
+        history.begin();
+        runCommand("n/Jane Tan c/87654321 id/S7654321B");
+
+        int committed = history.commit();
+
+        assertEquals(1, committed);
+        assertEquals(2, clientList.getClientList().size());
+        assertFalse(history.isInTransaction());
+    }
+
+    @Test
+    void endCommand_failedCommand_revertsPartialChanges() throws FinanceProPlusException {
+        clientList.addPolicyToClientSilent("id/S1234567A p/Health s/01-01-2024 e/01-01-2026 m/100.00",
+                policyList);
+        ClientPolicy contract = (ClientPolicy) clientList.findClientByNric("S1234567A")
+                .getPolicyList().getPolicyList().get(0);
+
+        history.beginCommand();
+        assertThrows(FinanceProPlusException.class, () ->
+                clientList.updatePolicyForClient("id/S1234567A p/Health s/01-06-2024 m/abc"));
+        history.endCommand(false);
+
+        assertEquals("2024-01-01", contract.getStartDate().toString());
+        assertEquals(0, contract.getMonthlyPremium().compareTo(new BigDecimal("100.00")));
+    }
+
+    @Test
+    void rollback_cascadingPolicyDelete_restoresClientContracts() throws FinanceProPlusException {
+        clientList.addPolicyToClientSilent("id/S1234567A p/Health s/01-01-2024 e/01-01-2026 m/100.00",
+                policyList);
+        history.begin();
+        history.beginCommand();
+        policyList.deleteItem("1", clientList);
+        history.endCommand(true);
+        assertEquals(0, policyList.getPolicyList().size());
+
+        history.rollback();
+
+        assertEquals(1, policyList.getPolicyList().size());
+        assertTrue(clientList.findClientByNric("S1234567A").hasPolicy("Health"));
+    }
+
+    @Test
+    void begin_whileInTransaction_throwsException() throws FinanceProPlusException {
+        history.begin();
+        assertThrows(FinanceProPlusException.class, () -> history.begin());
+    }
+
+    @Test
+    void commitAndRollback_withoutTransaction_throwException() {
+        assertThrows(FinanceProPlusException.class, () -> history.commit());
+        assertThrows(FinanceProPlusException.class, () -> history.rollback());
+    }
+
+    @Test
+    void undoRedo_afterCommand_revertsAndReappliesChange() throws FinanceProPlusException {
+        runCommand("n/Jane Tan c/87654321 id/S7654321B");
+
+        assertEquals(1, history.undo());
+        assertEquals(1, clientList.getClientList().size());
+        assertEquals(1, history.redo());
+        assertEquals(2, clientList.getClientList().size());
+    }
+
+    @Test
+    void undo_cascadingPolicyDelete_restoresEveryClientContract() throws FinanceProPlusException {
+        clientList.addItem("n/Jane Tan c/87654321 id/S7654321B", policyList);
+        clientList.addPolicyToClientSilent("id/S1234567A p/Health s/01-01-2024 e/01-01-2026 m/100.00",
+                policyList);
+        clientList.addPolicyToClientSilent("id/S7654321B p/Health s/01-01-2024 e/01-01-2026 m/120.00",
+                policyList);
+        history.beginCommand();
+        policyList.deleteItem("1", clientList);
+        history.endCommand(true);
+
+        assertEquals(3, history.undo());
+
+        assertTrue(clientList.findClientByNric("S1234567A").hasPolicy("Health"));
+        assertTrue(clientList.findClientByNric("S7654321B").hasPolicy("Health"));
+        assertEquals(1, policyList.getPolicyList().size());
+    }
+
+    @Test
+    void undo_parallelCascadingPolicyDelete_restoresEveryClientContract() throws FinanceProPlusException {
+        int clientCount = 5000;
+        for (int i = 1; i < clientCount; i++) {
+            String nric = String.format("T%07dZ", i);
+            clientList.addItem("n/Client " + i + " c/9" + String.format("%07d", i) + " id/" + nric, policyList);
+            if (i % 2 == 0) {
+                clientList.addPolicyToClientSilent("id/" + nric + " p/Health s/01-01-2024 e/01-01-2026 m/100.00",
+                        policyList);
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        history.beginCommand();
+        policyList.deleteItem("1", clientList);
+        history.endCommand(true);
+
+        String report = output.toString();
+        assertTrue(report.contains("Successfully removed 2499 associated policy contract(s) from clients."));
+        assertTrue(report.indexOf("from client: Client 2" + System.lineSeparator())
+                < report.indexOf("from client: Client 4998"));
+        assertFalse(clientList.findClientByNric("T0004998Z").hasPolicy("Health"));
+
+        assertEquals(2500, history.undo());
+        assertTrue(clientList.findClientByNric("T0004998Z").hasPolicy("Health"));
+        assertTrue(clientList.findClientByNric("T0000002Z").hasPolicy("Health"));
+        assertFalse(clientList.findClientByNric("T0000003Z").hasPolicy("Health"));
+    }
+
+    @Test
+    void undo_committedTransaction_revertsWholeTransaction() throws FinanceProPlusException {
+        history.begin();
+        runCommand("n/Jane Tan c/87654321 id/S7654321B");
+        runCommand("n/Ali Bin c/91234567 id/T1234567C");
+        history.commit();
+
+        assertEquals(1, history.getUndoSize());
+        assertEquals(2, history.undo());
+        assertEquals(1, clientList.getClientList().size());
+    }
+
+    @Test
+    void newCommand_afterUndo_clearsRedo() throws FinanceProPlusException {
+        runCommand("n/Jane Tan c/87654321 id/S7654321B");
+        history.undo();
+        runCommand("n/Ali Bin c/91234567 id/T1234567C");
+
+        assertEquals(0, history.getRedoSize());
+        assertThrows(FinanceProPlusException.class, () -> history.redo());
+    }
+
+    @Test
+    void undo_beyondEntryLimit_dropsOldestEntries() throws FinanceProPlusException {
+        history = new History(2, 100);
+        runCommand("n/Jane Tan c/87654321 id/S7654321B");
+        runCommand("n/Ali Bin c/91234567 id/T1234567C");
+        runCommand("n/Mei Lin c/81234567 id/S2345678D");
+
+        assertEquals(2, history.getUndoSize());
+        history.undo();
+        history.undo();
+        assertThrows(FinanceProPlusException.class, () -> history.undo());
+        assertEquals(2, clientList.getClientList().size());
+    }
+
+    @Test
+    void undo_entryLargerThanChangeBudget_isNotKept() throws FinanceProPlusException {
+        history = new History(10, 1);
+        history.begin();
+        runCommand("n/Jane Tan c/87654321 id/S7654321B");
+        runCommand("n/Ali Bin c/91234567 id/T1234567C");
+        history.commit();
+
+        assertEquals(0, history.getUndoSize());
+    }
+
+    @Test
+    void undo_duringTransaction_throwsException() throws FinanceProPlusException {
+        runCommand("n/Jane Tan c/87654321 id/S7654321B");
+        history.begin();
+        assertThrows(FinanceProPlusException.class, () -> history.undo());
+    }
+
+    @Test
+    void getChangeCount_countsChangesButNotReads() throws FinanceProPlusException {
+        history.beginCommand();
+        history.endCommand(true);
+        assertEquals(0, history.getChangeCount());
+
+        runCommand("n/Jane Tan c/87654321 id/S7654321B");
+        history.undo();
+        history.redo();
+        assertEquals(3, history.getChangeCount());
+    }
+
+    @Test
+    void discardUndoable_afterUndo_leavesNothingToUndoOrRedo() throws FinanceProPlusException {
+        runCommand("n/Jane Tan c/87654321 id/S7654321B");
+        runCommand("n/Ali Bin c/91234567 id/T1234567C");
+        history.undo();
+
+        history.discardUndoable();
+
+        assertEquals(0, history.getUndoSize());
+        assertEquals(0, history.getRedoSize());
+        assertThrows(FinanceProPlusException.class, () -> history.undo());
+        assertEquals(2, clientList.getClientList().size());
+    }
+
+    @Test
+    void droppedEntries_trimmedClearedOrFailed_areDiscardedOnce() {
+        history = new History(1, 100);
+        int[] discards = {0};
+        Runnable recordChange = () -> ChangeJournal.record(Change.of(() -> { }, () -> { }, () -> discards[0]++));
+
+        history.beginCommand();
+        recordChange.run();
+        history.endCommand(false);
+        assertEquals(1, discards[0]);
+
+        history.beginCommand();
+        recordChange.run();
+        history.endCommand(true);
+        history.beginCommand();
+        recordChange.run();
+        history.endCommand(true);
+        assertEquals(2, discards[0]);
+
+        history.discardUndoable();
+        history.discardUndoable();
+        assertEquals(3, discards[0]);
+        recordChange.run();
+        assertEquals(4, discards[0]);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.duke.logger;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncHandlerTest {
+
+    /**
+     * Collects published messages; optionally holds the writer thread until released.
+     */
+    private static class CollectingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch release;
+
+        CollectingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        synchronized List<String> getMessages() {
+            return new ArrayList<>(messages);
+        }
+    }
+
+    @Test
+    void close_afterPublishing_writesAllRecordsInOrder() {
+        CollectingHandler target = new CollectingHandler(new CountDownLatch(0));
+        AsyncHandler handler = new AsyncHandler(target, 16, AsyncHandler.OverflowPolicy.BLOCK);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.close();
+        List<String> messages = target.getMessages();
+        assertEquals(100, messages.size());
+        assertEquals("message 0", messages.get(0));
+        assertEquals("message 99", messages.get(99));
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    void flush_recordStillBeingWritten_waitsUntilItIsWritten() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingHandler target = new CollectingHandler(release);
+        AsyncHandler handler = new AsyncHandler(target, 16, AsyncHandler.OverflowPolicy.BLOCK);
+        handler.publish(new LogRecord(Level.INFO, "message"));
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        releaser.start();
+
+        handler.flush();
+        assertEquals(List.of("message"), target.getMessages());
+        releaser.join();
+        handler.close();
+    }
+
+    @Test
+    void publish_fullBufferWithDropPolicy_dropsAndReports() {
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingHandler target = new CollectingHandler(release);
+        AsyncHandler handler = new AsyncHandler(target, 4, AsyncHandler.OverflowPolicy.DROP);
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertTrue(handler.getDroppedCount() > 0);
+        release.countDown();
+        handler.close();
+        List<String> messages = target.getMessages();
+        assertEquals(50 - handler.getDroppedCount() + 1, messages.size());
+        assertTrue(messages.get(messages.size() - 1).contains("dropped"));
+    }
+}
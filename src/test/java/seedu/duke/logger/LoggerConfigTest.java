@@ -9,6 +9,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -35,14 +36,17 @@ class LoggerConfigTest {
 
     @Test
     void setup_successfulExecution_configuresLoggerCorrectly() {
+        LoggerConfig.setup();
         LoggerConfig.setup();
         Logger appLogger = Logger.getLogger(LoggerConfig.ROOT_NAME);
         assertFalse(appLogger.getUseParentHandlers(), "Parent handlers should be disabled.");
-        assertEquals(Level.ALL, appLogger.getLevel(), "Logger level should be set to ALL.");
+        assertEquals(Level.INFO, appLogger.getLevel(), "Logger level should default to INFO.");
         assertEquals(1, appLogger.getHandlers().length, "There should be exactly" +
                 " one handler attached.");
-        assertTrue(appLogger.getHandlers()[0] instanceof FileHandler, "The handler should be a FileHandler.");
-        FileHandler handler = (FileHandler) appLogger.getHandlers()[0];
+        assertTrue(appLogger.getHandlers()[0] instanceof AsyncHandler, "The handler should be an AsyncHandler.");
+        Handler target = ((AsyncHandler) appLogger.getHandlers()[0]).getTarget();
+        assertTrue(target instanceof FileHandler, "The AsyncHandler should write to a FileHandler.");
+        FileHandler handler = (FileHandler) target;
         assertEquals(Level.ALL, handler.getLevel(), "Handler level should be set to ALL.");
         assertTrue(handler.getFormatter() instanceof SimpleFormatter, "Handler's formatter should be" +
                 " a SimpleFormatter.");
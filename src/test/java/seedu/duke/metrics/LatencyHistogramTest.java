@@ -0,0 +1,65 @@
+package seedu.duke.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void getPercentile_noValues_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    @Test
+    void getPercentile_uniformValues_withinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000L, histogram.getMax());
+        assertWithinError(500_000L, histogram.getPercentile(50));
+        assertWithinError(950_000L, histogram.getPercentile(95));
+        assertWithinError(990_000L, histogram.getPercentile(99));
+        assertEquals(1_000_000L, histogram.getPercentile(100));
+    }
+
+    @Test
+    void bucketOf_smallValues_areExact() {
+        for (int i = 0; i < 8; i++) {
+            assertEquals(i, LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(i)));
+        }
+    }
+
+    @Test
+    void upperBoundOf_anyValue_isNotBelowValue() {
+        long[] values = {8, 9, 15, 16, 1_000, 123_456_789L, Long.MAX_VALUE};
+        for (long value : values) {
+            long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(value));
+            assertTrue(upperBound >= value);
+            assertTrue(upperBound - value <= value / 8);
+        }
+    }
+
+    @Test
+    void report_recordedCommand_listsItsPhases() {
+        CommandMetrics.reset();
+        CommandMetrics.record("AddCommand client", CommandMetrics.Phase.EXECUTE, 2_000_000L);
+        CommandMetrics.record("AddCommand client", CommandMetrics.Phase.SAVE, 5_000L);
+        String report = String.join("\n", CommandMetrics.report());
+        assertTrue(report.contains("execute"));
+        assertTrue(report.contains("2.00ms"));
+        assertTrue(report.contains("5.0us"));
+        assertEquals(3, CommandMetrics.report().size());
+        CommandMetrics.reset();
+    }
+
+    private void assertWithinError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8,
+                "Expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.duke.metrics;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.task.Task;
+import seedu.duke.task.TaskList;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoryEstimatorTest {
+
+    @Test
+    void measure_string_countsObjectAndBackingArray() {
+        MemoryEstimator.Footprint footprint = new MemoryEstimator().measure("abcdefgh");
+        assertEquals(1, footprint.getObjects());
+        assertEquals(24 + 24, footprint.getBytes());
+    }
+
+    @Test
+    void measure_sameObjectTwice_countedOnce() {
+        MemoryEstimator estimator = new MemoryEstimator();
+        String shared = "shared";
+        assertTrue(estimator.measure(List.of(shared, shared)).getBytes() > 0);
+        assertEquals(0, estimator.measure(shared).getObjects());
+    }
+
+    @Test
+    void measure_taskList_walksTasksAndTheirFields() throws FinanceProPlusException {
+        TaskList tasks = new TaskList();
+        tasks.loadFromStorage(List.of("d/Call client by/01-01-2030", "d/Send forms by/02-01-2030"));
+        MemoryEstimator estimator = new MemoryEstimator();
+        MemoryEstimator.Footprint one = estimator.measure(new Task("d/Call client by/01-01-2030"));
+        MemoryEstimator.Footprint list = estimator.measure(tasks);
+        assertTrue(one.getObjects() >= 3);
+        assertTrue(list.getObjects() >= 2 * one.getObjects() + 2);
+        assertTrue(list.getBytes() > 2 * one.getBytes());
+    }
+
+    @Test
+    void formatBytes_picksUnit() {
+        assertEquals("512 B", MemoryEstimator.formatBytes(512));
+        assertEquals("1.5 KiB", MemoryEstimator.formatBytes(1536));
+        assertEquals("2.0 MiB", MemoryEstimator.formatBytes(2L * 1024 * 1024));
+    }
+}
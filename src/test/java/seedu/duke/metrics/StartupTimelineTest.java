@@ -0,0 +1,36 @@
+package seedu.duke.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupTimelineTest {
+
+    @Test
+    void record_samePhaseTwice_addsDurationsAndCounts() {
+        StartupTimeline timeline = new StartupTimeline();
+        long start = System.nanoTime();
+        long next = timeline.record("read client_tasks/*", start);
+        long last = timeline.record("read client_tasks/*", next);
+        assertEquals(last - start, timeline.getDuration("read client_tasks/*"));
+        assertEquals(last - start, timeline.getTotal());
+        List<String> report = timeline.report();
+        assertEquals(3, report.size());
+        assertTrue(report.get(1).endsWith("read client_tasks/* (x2)"));
+        assertTrue(report.get(2).endsWith("total"));
+    }
+
+    @Test
+    void report_keepsPhasesInOrder() {
+        StartupTimeline timeline = new StartupTimeline();
+        long start = timeline.record("read client.txt", System.nanoTime());
+        timeline.record("parse clients", start);
+        List<String> report = timeline.report();
+        assertTrue(report.get(1).endsWith("read client.txt"));
+        assertTrue(report.get(2).endsWith("parse clients"));
+        assertEquals(0, timeline.getDuration("unknown phase"));
+    }
+}
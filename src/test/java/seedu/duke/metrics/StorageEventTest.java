@@ -0,0 +1,49 @@
+package seedu.duke.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.TestFiles;
+import seedu.duke.storage.StorageManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StorageEventTest {
+    private final String root = "test_storage_events";
+
+    @BeforeEach
+    @AfterEach
+    void cleanup() throws IOException {
+        TestFiles.deleteRecursively(new File(root));
+    }
+
+    @Test
+    void saveAndLoad_recordingEnabled_emitsOneEventEach() throws Exception {
+        StorageManager storage = new StorageManager(root);
+        Path recordingFile = Path.of(root, "storage.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(StorageEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            storage.saveToFile("policy.txt", List.of("n/Basic d/Cover"));
+            storage.loadFromFile("policy.txt");
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        assertEquals(2, events.size());
+        assertEquals("save", events.get(0).getString("operation"));
+        assertEquals("policy.txt", events.get(0).getString("file"));
+        assertEquals("load", events.get(1).getString("operation"));
+        assertEquals(events.get(0).getLong("bytes"), events.get(1).getLong("bytes"));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.duke.parser;
 
 import org.junit.jupiter.api.Test;
+import seedu.duke.command.ForecastPremiumCommand;
 import seedu.duke.exception.FinanceProPlusException;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -42,6 +43,31 @@ class ParserTest {
         assertInstanceOf(PolicyParser.class, parser);
     }
 
+    @Test
+    void selectParserType_transactionCommands_returnTransactionParser() throws FinanceProPlusException {
+        assertInstanceOf(TransactionParser.class, Parser.selectParserType("begin"));
+        assertInstanceOf(TransactionParser.class, Parser.selectParserType("commit"));
+        assertInstanceOf(TransactionParser.class, Parser.selectParserType("rollback"));
+    }
+
+    @Test
+    void selectParserType_transactionCommandWithArguments_throwsException() {
+        assertThrows(FinanceProPlusException.class, () -> Parser.selectParserType("begin now"));
+    }
+
+    @Test
+    void selectParserType_metricsCommand_returnsMetricsParser() throws FinanceProPlusException {
+        assertInstanceOf(MetricsParser.class, Parser.selectParserType("metrics"));
+        assertInstanceOf(MetricsParser.class, Parser.selectParserType("metrics storage"));
+        assertThrows(FinanceProPlusException.class, () -> Parser.selectParserType("metrics all"));
+    }
+
+    @Test
+    void selectParserType_memoryCommand_returnsMemoryParser() throws FinanceProPlusException {
+        assertInstanceOf(MemoryParser.class, Parser.selectParserType("memory"));
+        assertThrows(FinanceProPlusException.class, () -> Parser.selectParserType("memory clients"));
+    }
+
     @Test
     void selectParserType_invalidCommand_throwsException() {
         String invalidInput = "unknownCommand";
@@ -60,7 +86,17 @@ class ParserTest {
         assertEquals("Invalid command type", exception.getMessage());
     }
 
+    @Test
+    void parse_forecastPremiumWithMonths_returnsForecastPremiumCommand() throws FinanceProPlusException {
+        assertInstanceOf(ForecastPremiumCommand.class, Parser.parse("forecast premium months/6"));
+        assertInstanceOf(ForecastPremiumCommand.class, Parser.parse("forecast premium"));
+    }
 
-
-
+    @Test
+    void parse_forecastInvalidArguments_throwsException() {
+        assertThrows(FinanceProPlusException.class, () -> Parser.parse("forecast meeting"));
+        assertThrows(FinanceProPlusException.class, () -> Parser.parse("forecast premium months/0"));
+        assertThrows(FinanceProPlusException.class, () -> Parser.parse("forecast premium months/abc"));
+        assertThrows(FinanceProPlusException.class, () -> Parser.parse("forecast premium 12"));
+    }
 }
@@ -0,0 +1,61 @@
+package seedu.duke.policy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.client.Client;
+import seedu.duke.client.ClientList;
+import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.history.ChangeSet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CascadeDeleteTaskTest {
+    private static final int CLIENT_COUNT = 3 * CascadeDeleteTask.LEAF_SIZE;
+    private final PrintStream originalOut = System.out;
+    private PolicyList catalog;
+    private ClientList clientList;
+
+    @BeforeEach
+    void setUp() throws FinanceProPlusException {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        catalog = new PolicyList();
+        catalog.addItem("n/Health d/Health cover");
+        clientList = new ClientList();
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            String nric = String.format("T%07dZ", i);
+            clientList.addItem("n/Client " + i + " c/9" + String.format("%07d", i) + " id/" + nric, catalog);
+            clientList.addPolicyToClientSilent("id/" + nric + " p/Health s/01-01-2024 e/01-01-2026 m/100.00",
+                    catalog);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void getChanges_partFailed_keepsChangesOfEveryOtherPart() throws FinanceProPlusException {
+        List<Client> clients = new ArrayList<>(clientList.getClientList());
+        clients.add(null);
+        CascadeDeleteTask task = new CascadeDeleteTask(clients, catalog.findPolicyByName("Health"));
+
+        assertThrows(NullPointerException.class, task::invoke);
+        ChangeSet changes = task.getChanges();
+        assertEquals(CLIENT_COUNT, changes.size());
+        assertFalse(clientList.findClientByNric("T0000000Z").hasPolicy("Health"));
+
+        changes.undo();
+        assertTrue(clientList.findClientByNric("T0000000Z").hasPolicy("Health"));
+        assertTrue(clientList.findClientByNric(String.format("T%07dZ", CLIENT_COUNT - 1)).hasPolicy("Health"));
+    }
+}
@@ -12,6 +12,7 @@ import java.time.format.DateTimeFormatter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 
 class ClientPolicyTest {
@@ -38,6 +39,14 @@ class ClientPolicyTest {
         assertEquals(0, premium.compareTo(clientPolicy.getMonthlyPremium())); // Use compareTo for BigDecimal
     }
 
+    @Test
+    void getName_sharesCatalogPolicyName() throws FinanceProPlusException {
+        ClientPolicy clientPolicy = new ClientPolicy(basePolicy, LocalDate.of(2023, 1, 15),
+                LocalDate.of(2025, 1, 14), new BigDecimal("150.75"));
+        assertSame(basePolicy, clientPolicy.getBasePolicy());
+        assertSame(basePolicy.getName(), clientPolicy.getName());
+    }
+
     @Test
     void constructor_placeholder_setsNameAndNulls() throws FinanceProPlusException {
         ClientPolicy placeholderPolicy = new ClientPolicy(basePolicy);
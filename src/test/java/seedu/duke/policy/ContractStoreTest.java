@@ -0,0 +1,137 @@
+package seedu.duke.policy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.client.Client;
+import seedu.duke.client.ClientList;
+import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.history.History;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContractStoreTest {
+    private ContractStore previousStore;
+    private ContractStore store;
+    private PolicyList catalog;
+    private ClientList clients;
+
+    @BeforeEach
+    void setUp() throws FinanceProPlusException {
+        previousStore = ContractStore.getInstance();
+        store = new ContractStore();
+        ContractStore.setInstance(store);
+        catalog = new PolicyList();
+        catalog.loadFromStorage(List.of("n/Health d/Hospital cover", "n/Life d/Life cover"));
+        clients = new ClientList();
+        clients.loadFromStorage(List.of("n/Alex Tan id/S1234567D c/91234567", "n/Wei Ling id/S7654321B c/81234567"),
+                catalog);
+        clients.addPolicyToClientSilent("id/S1234567D p/Health s/01-01-2024 e/31-12-2024 m/100.50", catalog);
+        clients.addPolicyToClientSilent("id/S1234567D p/Life s/01-01-2024 e/31-12-2030 m/20.25", catalog);
+        clients.addPolicyToClientSilent("id/S7654321B p/Health s/01-06-2024 e/30-06-2025 m/80.00", catalog);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContractStore.setInstance(previousStore);
+    }
+
+    @Test
+    void clientPolicy_storeEnabled_readsAndWritesTermsThroughStore() throws FinanceProPlusException {
+        ClientPolicy contract = (ClientPolicy) clients.findClientByNric("S1234567D").getPolicyList()
+                .findPolicyByName("Health");
+        assertEquals(new BigDecimal("100.50"), contract.getMonthlyPremium());
+        assertEquals(LocalDate.of(2024, 12, 31), contract.getExpiryDate());
+        contract.setMonthlyPremium(new BigDecimal("110"));
+        assertEquals(new BigDecimal("110.00"), contract.getMonthlyPremium());
+        assertNull(new ClientPolicy(contract.getBasePolicy()).getStartDate());
+    }
+
+    @Test
+    void forEach_ignoresContractsOfRemovedClients() throws FinanceProPlusException {
+        assertEquals(3, countRows(store));
+        clients.deleteItem("2");
+        assertEquals(2, countRows(store));
+        Client alex = clients.findClientByNric("S1234567D");
+        alex.removePolicyByName("Health");
+        assertEquals(1, countRows(store));
+    }
+
+    @Test
+    void forEach_passesClientAndPolicyIds() {
+        List<String> visited = new ArrayList<>();
+        store.forEach((clientId, policyId, startDay, expiryDay, premiumCents) ->
+                visited.add(store.getNric(clientId) + " " + store.getPolicy(policyId).getName() + " " + premiumCents));
+        assertEquals(List.of("S1234567D Health 10050", "S1234567D Life 2025", "S7654321B Health 8000"), visited);
+    }
+
+    @Test
+    void offHeapStore_growsPastInitialCapacity_keepsEveryRow() throws FinanceProPlusException {
+        ContractStore offHeapStore = new ContractStore(true);
+        Policy health = catalog.findPolicyByName("Health");
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 3000; i++) {
+            int row = offHeapStore.addRow(health, start, start.plusDays(i), BigDecimal.valueOf(i, 2));
+            offHeapStore.attach(row, offHeapStore.registerClient("S" + i));
+        }
+        assertTrue(offHeapStore.isOffHeap());
+        assertEquals(BigDecimal.valueOf(2999, 2), offHeapStore.getMonthlyPremium(2999));
+        assertEquals(3000, countRows(offHeapStore));
+        long[] totalCents = {0};
+        offHeapStore.forEach((clientId, policyId, startDay, expiryDay, premiumCents) -> totalCents[0] += premiumCents);
+        assertEquals(2999L * 3000 / 2, totalCents[0]);
+    }
+
+    @Test
+    void freeRow_removalNoLongerUndoable_rowIsReused() throws FinanceProPlusException {
+        History history = new History(1, 1000);
+        history.beginCommand();
+        clients.deleteItem("2");
+        history.endCommand(true);
+        assertEquals(3, store.getRowCount());
+
+        history.beginCommand();
+        clients.findClientByNric("S1234567D").removePolicyByName("Health");
+        history.endCommand(true);
+        assertEquals(2, store.getRowCount());
+        history.undo();
+        assertEquals(2, countRows(store));
+        history.redo();
+        history.discardUndoable();
+        assertEquals(1, store.getRowCount());
+
+        Policy life = catalog.findPolicyByName("Life");
+        assertTrue(store.addRow(life, null, null, null) < 3);
+        assertTrue(store.addRow(life, null, null, null) < 3);
+        assertEquals(3, store.addRow(life, null, null, null));
+    }
+
+    @Test
+    void freeRow_undoneAdditionDroppedFromRedo_rowIsReused() throws FinanceProPlusException {
+        History history = new History();
+        history.beginCommand();
+        clients.addPolicyToClientSilent("id/S7654321B p/Life s/01-01-2024 e/31-12-2030 m/20.25", catalog);
+        history.endCommand(true);
+        history.undo();
+        assertEquals(4, store.getRowCount());
+
+        history.beginCommand();
+        catalog.addItem("n/Motor d/Car cover");
+        history.endCommand(true);
+        assertEquals(3, store.getRowCount());
+        assertEquals(3, store.addRow(catalog.findPolicyByName("Motor"), null, null, null));
+    }
+
+    private static int countRows(ContractStore contractStore) {
+        int[] count = {0};
+        contractStore.forEach((clientId, policyId, startDay, expiryDay, premiumCents) -> count[0]++);
+        return count[0];
+    }
+}
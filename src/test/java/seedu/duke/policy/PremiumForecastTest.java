@@ -0,0 +1,77 @@
+package seedu.duke.policy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.client.ClientList;
+import seedu.duke.exception.FinanceProPlusException;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PremiumForecastTest {
+    private ContractStore previousStore;
+
+    @BeforeEach
+    void setUp() {
+        previousStore = ContractStore.getInstance();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContractStore.setInstance(previousStore);
+    }
+
+    private PremiumForecast forecastSampleBook(YearMonth firstMonth, int months) throws FinanceProPlusException {
+        PolicyList catalog = new PolicyList();
+        catalog.loadFromStorage(List.of("n/Health d/Hospital cover", "n/Life d/Life cover", "n/Travel d/Trips"));
+        ClientList clients = new ClientList();
+        clients.loadFromStorage(List.of("n/Alex Tan id/S1234567D c/91234567", "n/Wei Ling id/S7654321B c/81234567"),
+                catalog);
+        clients.addPolicyToClientSilent("id/S1234567D p/Health s/15-01-2024 e/01-12-2024 m/100.50", catalog);
+        clients.addPolicyToClientSilent("id/S1234567D p/Life s/01-01-2024 e/31-12-2030 m/20.25", catalog);
+        clients.addPolicyToClientSilent("id/S7654321B p/Health s/01-06-2024 e/30-01-2025 m/80.00", catalog);
+        clients.addPolicyToClientSilent("id/S7654321B p/Travel s/01-03-2025 e/01-04-2025 m/5.00", catalog);
+        return PremiumForecast.compute(clients.getClientList(), catalog.getPolicyList(), firstMonth, months);
+    }
+
+    private void assertSampleForecast(PremiumForecast forecast) {
+        assertEquals(List.of("Health", "Life", "Travel"),
+                forecast.getPolicies().stream().map(Policy::getName).collect(Collectors.toList()));
+        assertEquals(20075, forecast.getTotalCents(0));
+        assertEquals(20075, forecast.getTotalCents(1));
+        assertEquals(10025, forecast.getTotalCents(2));
+        assertEquals(2025, forecast.getTotalCents(3));
+        assertEquals(18050, forecast.getPolicyCents(0, 1));
+        assertEquals(8000, forecast.getPolicyCents(0, 2));
+        assertEquals(0, forecast.getPolicyCents(0, 3));
+        assertEquals(18050 + 18050 + 8000, forecast.getPolicyTotalCents(0));
+        assertEquals(4 * 2025, forecast.getPolicyTotalCents(1));
+        assertEquals(0, forecast.getPolicyTotalCents(2));
+        assertEquals(YearMonth.of(2025, 2), forecast.getMonth(3));
+    }
+
+    @Test
+    void compute_contractObjects_addsPremiumForEveryMonthInForce() throws FinanceProPlusException {
+        ContractStore.setInstance(null);
+        assertSampleForecast(forecastSampleBook(YearMonth.of(2024, 11), 4));
+    }
+
+    @Test
+    void compute_storeEnabled_matchesContractObjects() throws FinanceProPlusException {
+        ContractStore.setInstance(new ContractStore());
+        assertSampleForecast(forecastSampleBook(YearMonth.of(2024, 11), 4));
+    }
+
+    @Test
+    void compute_contractsOutsideWindow_areLeftOut() throws FinanceProPlusException {
+        ContractStore.setInstance(null);
+        PremiumForecast forecast = forecastSampleBook(YearMonth.of(2031, 1), 12);
+        for (int m = 0; m < forecast.getMonthCount(); m++) {
+            assertEquals(0, forecast.getTotalCents(m));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.duke.reminder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.client.Client;
+import seedu.duke.client.ClientList;
+import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.meeting.MeetingList;
+import seedu.duke.policy.ClientPolicy;
+import seedu.duke.policy.PolicyList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReminderSchedulerTest {
+    private final PrintStream originalOut = System.out;
+    private final MovableClock clock = new MovableClock(LocalDateTime.of(2026, 1, 1, 9, 0));
+    private ReminderScheduler scheduler;
+
+    /**
+     * A clock the test moves forward by hand.
+     */
+    private static class MovableClock extends Clock {
+        private Instant now;
+
+        MovableClock(LocalDateTime now) {
+            moveTo(now);
+        }
+
+        void moveTo(LocalDateTime time) {
+            now = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        scheduler = new ReminderScheduler(clock);
+        ReminderScheduler.setInstance(scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReminderScheduler.setInstance(null);
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void takeDue_remindersDue_returnsEachOnceSoonestItemFirst() {
+        scheduler.schedule("later", LocalDateTime.of(2026, 1, 1, 8, 0), LocalDateTime.of(2026, 1, 5, 0, 0),
+                () -> "later");
+        scheduler.schedule("sooner", LocalDateTime.of(2026, 1, 1, 8, 30), LocalDateTime.of(2026, 1, 2, 0, 0),
+                () -> "sooner");
+        scheduler.schedule("future", LocalDateTime.of(2026, 1, 3, 0, 0), LocalDateTime.of(2026, 1, 4, 0, 0),
+                () -> "future");
+
+        assertEquals(List.of("sooner", "later"), scheduler.takeDue(10));
+        assertTrue(scheduler.takeDue(10).isEmpty());
+
+        clock.moveTo(LocalDateTime.of(2026, 1, 3, 0, 0));
+        assertEquals(List.of("future"), scheduler.takeDue(10));
+        assertEquals(3, scheduler.getTrackedCount());
+    }
+
+    @Test
+    void takeDue_cancelledOrRescheduledOrExpired_leavesThemOut() {
+        LocalDateTime expiresAt = LocalDateTime.of(2026, 2, 1, 0, 0);
+        scheduler.schedule("cancelled", LocalDateTime.of(2026, 1, 1, 0, 0), expiresAt, () -> "cancelled");
+        scheduler.schedule("moved", LocalDateTime.of(2026, 1, 1, 0, 0), expiresAt, () -> "moved");
+        scheduler.schedule("expired", LocalDateTime.of(2025, 12, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0),
+                () -> "expired");
+        scheduler.cancel("cancelled");
+        scheduler.reschedule("moved", LocalDateTime.of(2026, 1, 20, 0, 0), expiresAt);
+        scheduler.reschedule("untracked", LocalDateTime.of(2026, 1, 1, 0, 0), expiresAt);
+
+        assertTrue(scheduler.takeDue(10).isEmpty());
+        assertEquals(2, scheduler.getTrackedCount());
+
+        clock.moveTo(LocalDateTime.of(2026, 1, 20, 0, 0));
+        assertEquals(List.of("moved"), scheduler.takeDue(10));
+    }
+
+    @Test
+    void takeDue_moreDueThanLimit_leavesTheRestForNextCall() {
+        for (int i = 1; i <= 3; i++) {
+            String text = "item " + i;
+            scheduler.schedule(text, LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 1 + i, 0, 0),
+                    () -> text);
+        }
+
+        assertEquals(List.of("item 1", "item 2"), scheduler.takeDue(2));
+        assertEquals(1, scheduler.getDueCount());
+        assertEquals(List.of("item 3"), scheduler.takeDue(2));
+        assertEquals(0, scheduler.getDueCount());
+    }
+
+    @Test
+    void cancel_mostQueuedRemindersCancelled_dropsThemFromQueue() {
+        LocalDateTime remindAt = LocalDateTime.of(2026, 6, 1, 0, 0);
+        LocalDateTime expiresAt = LocalDateTime.of(2026, 7, 1, 0, 0);
+        for (int i = 0; i < 10; i++) {
+            scheduler.schedule(i, remindAt, expiresAt, () -> "item");
+        }
+        for (int i = 0; i < 5; i++) {
+            scheduler.cancel(i);
+        }
+        assertEquals(10, scheduler.getQueuedCount());
+
+        scheduler.cancel(5);
+        assertEquals(4, scheduler.getQueuedCount());
+        for (int i = 0; i < 20; i++) {
+            scheduler.reschedule(6, remindAt.plusDays(i), expiresAt);
+        }
+        assertTrue(scheduler.getQueuedCount() <= 2 * scheduler.getTrackedCount());
+        assertEquals(4, scheduler.getTrackedCount());
+    }
+
+    @Test
+    void lists_itemsAddedChangedAndRemoved_keepRemindersUpToDate() throws FinanceProPlusException {
+        PolicyList policyList = new PolicyList();
+        policyList.addItem("n/Health d/Health cover");
+        ClientList clientList = new ClientList();
+        clientList.addItem("n/John Doe c/12345678 id/S1234567A", policyList);
+        clientList.addPolicyToClientSilent("id/S1234567A p/Health s/01-01-2025 e/20-01-2026 m/100.00", policyList);
+        Client client = clientList.findClientByNric("S1234567A");
+        client.getTodoList().addItem("d/Send renewal forms by/02-01-2026");
+        MeetingList meetings = new MeetingList();
+        meetings.addItem("t/Review c/John Doe d/01-01-2026 from/14:00");
+        meetings.addItem("t/Kickoff c/Jane Tan d/10-01-2026 from/10:00");
+
+        assertEquals(List.of("Meeting Review with John Doe on 01-01-2026 at 14:00.",
+                "To-do of client S1234567A: Send renewal forms is due by 02-01-2026.",
+                "Contract Health of client S1234567A expires on 20-01-2026."), scheduler.takeDue(10));
+
+        ClientPolicy contract = (ClientPolicy) client.getContracts().get(0);
+        contract.setExpiryDate(LocalDate.of(2026, 3, 1));
+        meetings.deleteItem("2");
+        clock.moveTo(LocalDateTime.of(2026, 1, 31, 0, 0));
+        assertEquals(List.of("Contract Health of client S1234567A expires on 01-03-2026."), scheduler.takeDue(10));
+
+        clientList.deleteItem("1");
+        assertEquals(1, scheduler.getTrackedCount());
+    }
+}
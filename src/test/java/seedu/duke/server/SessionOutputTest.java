@@ -0,0 +1,32 @@
+package seedu.duke.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SessionOutputTest {
+
+    @Test
+    void write_redirectedThread_goesToSessionStream() throws InterruptedException {
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        ByteArrayOutputStream session = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(new SessionOutput(console), true);
+
+        Thread sessionThread = new Thread(() -> {
+            SessionOutput.redirectTo(session);
+            out.println("from session");
+            SessionOutput.reset();
+            out.println("after reset");
+        });
+        sessionThread.start();
+        sessionThread.join();
+        out.println("from console");
+
+        String separator = System.lineSeparator();
+        assertEquals("from session" + separator, session.toString());
+        assertEquals("after reset" + separator + "from console" + separator, console.toString());
+    }
+}
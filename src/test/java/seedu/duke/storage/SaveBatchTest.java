@@ -0,0 +1,43 @@
+package seedu.duke.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SaveBatchTest {
+
+    @Test
+    void awaitAll_allWritesSucceed_runsEveryWrite() throws IOException {
+        AtomicInteger count = new AtomicInteger();
+        SaveBatch batch = new SaveBatch();
+        for (int i = 0; i < 20; i++) {
+            batch.submit("file" + i, count::incrementAndGet);
+        }
+        assertEquals(20, batch.awaitAll());
+        assertEquals(20, count.get());
+    }
+
+    @Test
+    void awaitAll_someWritesFail_runsTheRestAndReportsAllFailures() {
+        AtomicInteger count = new AtomicInteger();
+        SaveBatch batch = new SaveBatch();
+        batch.submit("a.txt", () -> {
+            throw new IOException("disk full");
+        });
+        batch.submit("b.txt", count::incrementAndGet);
+        batch.submit("c.txt", () -> {
+            throw new IOException("read-only");
+        });
+
+        IOException exception = assertThrows(IOException.class, batch::awaitAll);
+        assertEquals(1, count.get());
+        assertTrue(exception.getMessage().startsWith("Failed to save 2 of the files: "));
+        assertTrue(exception.getMessage().contains("a.txt (disk full); c.txt (read-only)"));
+        assertEquals(2, exception.getSuppressed().length);
+    }
+}
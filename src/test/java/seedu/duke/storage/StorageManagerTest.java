@@ -2,6 +2,7 @@ package seedu.duke.storage;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
 import java.util.ArrayList;
@@ -9,8 +10,11 @@ import java.util.ArrayList;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.duke.TestFiles;
+import seedu.duke.metrics.StorageStats;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -35,21 +39,27 @@ public class StorageManagerTest {
 
     @AfterEach
     void tearDown() throws IOException {
-        deleteRecursively(new File(testDataFolder));
-        deleteRecursively(new File(testExportsFolder));
+        TestFiles.deleteRecursively(new File(testDataFolder));
+        TestFiles.deleteRecursively(new File(testExportsFolder));
     }
 
-    private void deleteRecursively(File file) throws IOException {
-        if (file.exists()) {
-            if (file.isDirectory()) {
-                for (File sub : file.listFiles()) {
-                    deleteRecursively(sub);
-                }
-            }
-            Files.deleteIfExists(file.toPath());
-        }
-    }
 
+    @Test
+    void saveAndLoadFile_recordsStorageStats() throws IOException {
+        StorageStats.reset();
+        storageManager.saveToFile("stats.txt", List.of("abc", "de"));
+        storageManager.loadFromFile("stats.txt");
+        storageManager.loadFromFile("missing.txt");
+
+        long expectedBytes = 5 + 2L * System.lineSeparator().length();
+        assertEquals(expectedBytes, StorageStats.getBytesWritten());
+        assertEquals(expectedBytes, StorageStats.getBytesRead());
+        assertEquals(2, StorageStats.getFilesOpened());
+        assertEquals(1, StorageStats.getFlushes());
+        assertTrue(String.join("\n", StorageStats.report()).contains("stats.txt"));
+        new File("data/stats.txt").delete();
+        StorageStats.reset();
+    }
 
     @Test
     void saveAndLoadFile_success() throws IOException {
@@ -184,5 +194,93 @@ public class StorageManagerTest {
         List<String> result = storageManager.loadClientTasks("");
         assertTrue(result.isEmpty());
     }
-}
 
+    @Test
+    void openRecordFile_appendedRecords_readBackByLocation() throws IOException {
+        CompressedRecordFile records = new StorageManager(testDataFolder).openRecordFile("records.cold");
+        List<CompressedRecordFile.Location> first = records.append(List.of(List.of("a", "b"), List.of()));
+        List<CompressedRecordFile.Location> second = records.append(List.of(List.of("c")));
+
+        assertEquals(first.get(1).getOffset() + first.get(1).getLength(), second.get(0).getOffset());
+        assertEquals(records.size(), second.get(0).getOffset() + second.get(0).getLength());
+        assertEquals(List.of("c"), records.read(second.get(0)));
+        assertEquals(List.of(List.of("a", "b"), List.of()), records.readAll(first));
+    }
+
+    @Test
+    void copyTo_someRecords_copiesOnlyThoseBackToBack() throws IOException {
+        StorageManager storage = new StorageManager(testDataFolder);
+        CompressedRecordFile records = storage.openRecordFile("records.cold");
+        List<CompressedRecordFile.Location> locations = records.append(List.of(List.of("a"), List.of("b", "c"),
+                List.of("d")));
+        CompressedRecordFile target = storage.openRecordFile("records.cold.compact");
+        target.append(List.of(List.of("stale")));
+
+        List<CompressedRecordFile.Location> copied = records.copyTo(List.of(locations.get(2), locations.get(0)),
+                target);
+
+        assertEquals(0, copied.get(0).getOffset());
+        assertEquals(copied.get(0).getLength(), copied.get(1).getOffset());
+        assertEquals(target.size(), locations.get(0).getLength() + locations.get(2).getLength());
+        assertEquals(List.of(List.of("d"), List.of("a")), target.readAll(copied));
+    }
+
+    @Test
+    void openRecordFile_emptyName_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> storageManager.openRecordFile(""));
+    }
+
+    @Test
+    void loadFromFile_mixedLineEndings_splitsLinesLikeAReader() throws IOException {
+        File file = new File("data/line_endings.txt");
+        Files.write(file.toPath(), "first\r\nsecond\rthird\n\nfifth".getBytes(StandardCharsets.UTF_8));
+        try {
+            assertEquals(List.of("first", "second", "third", "", "fifth"), storageManager.loadFromFile(
+                    "line_endings.txt"));
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    @Test
+    void saveToFile_compressionEnabled_writesGzipThatLoadsBack() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            lines.add("n/Client " + i + " id/S" + (1000000 + i) + "A c/9" + (1000000 + i));
+        }
+        storageManager.saveToFile("plain.txt", lines);
+        System.setProperty("financeproplus.storage.compress", "true");
+        StorageManager compressing;
+        try {
+            compressing = new StorageManager();
+        } finally {
+            System.clearProperty("financeproplus.storage.compress");
+        }
+        compressing.saveToFile("compressed.txt", lines);
+        compressing.saveToFile("small.txt", List.of("n/Tiny"));
+
+        byte[] compressedBytes = Files.readAllBytes(new File("data/compressed.txt").toPath());
+        assertEquals(0x1f, compressedBytes[0] & 0xff);
+        assertEquals(0x8b, compressedBytes[1] & 0xff);
+        assertTrue(compressedBytes.length < new File("data/plain.txt").length() / 2);
+        assertEquals("n/Tiny", Files.readAllLines(new File("data/small.txt").toPath()).get(0));
+        assertEquals(lines, storageManager.loadFromFile("compressed.txt"));
+        assertEquals(lines, compressing.loadFromFile("plain.txt"));
+
+        Files.deleteIfExists(new File("data/plain.txt").toPath());
+        Files.deleteIfExists(new File("data/compressed.txt").toPath());
+        Files.deleteIfExists(new File("data/small.txt").toPath());
+    }
+
+    @Test
+    void saveToFile_writeFails_keepsPreviousContents() throws IOException {
+        StorageManager storage = new StorageManager(testDataFolder);
+        storage.saveToFile("kept.txt", List.of("n/Old"));
+        File blockedTemp = new File(testDataFolder + "data/kept.txt.tmp");
+        assertTrue(blockedTemp.mkdir());
+
+        assertThrows(IOException.class, () -> storage.saveToFile("kept.txt", List.of("n/New")));
+        assertEquals(List.of("n/Old"), storage.loadFromFile("kept.txt"));
+        assertFalse(blockedTemp.exists());
+    }
+}
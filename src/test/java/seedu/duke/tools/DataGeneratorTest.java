@@ -0,0 +1,94 @@
+package seedu.duke.tools;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.TestFiles;
+import seedu.duke.client.ArchivedClientList;
+import seedu.duke.client.Client;
+import seedu.duke.client.ClientList;
+import seedu.duke.exception.FinanceProPlusException;
+import seedu.duke.meeting.MeetingList;
+import seedu.duke.policy.PolicyList;
+import seedu.duke.storage.StorageManager;
+import seedu.duke.task.TaskList;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataGeneratorTest {
+    private final String firstRoot = "test_generated_a";
+    private final String secondRoot = "test_generated_b";
+
+    @BeforeEach
+    @AfterEach
+    void cleanup() throws IOException {
+        TestFiles.deleteRecursively(new File(firstRoot));
+        TestFiles.deleteRecursively(new File(secondRoot));
+    }
+
+    @Test
+    void nric_manyIndices_validAndUnique() {
+        Set<String> nrics = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            String nric = DataGenerator.nric(i);
+            assertTrue(Client.isValidNric(nric));
+            nrics.add(nric);
+        }
+        assertEquals(10_000, nrics.size());
+    }
+
+    @Test
+    void nric_knownIndex_hasCorrectCheckLetter() {
+        // S0000000: weighted sum 0, check letter 'J'.
+        assertEquals("S0000000J", DataGenerator.nric(0));
+    }
+
+    @Test
+    void generate_sameSeed_producesIdenticalFiles() throws IOException {
+        StorageManager first = new StorageManager(firstRoot);
+        StorageManager second = new StorageManager(secondRoot);
+        new DataGenerator(7L, 50).generate(first);
+        new DataGenerator(7L, 50).generate(second);
+
+        for (String file : new String[]{"client.txt", "archived_clients.txt", "meeting.txt", "task.txt"}) {
+            assertEquals(first.loadFromFile(file), second.loadFromFile(file));
+        }
+        String nric = DataGenerator.nric(10);
+        assertEquals(first.loadClientPolicies(nric), second.loadClientPolicies(nric));
+        assertEquals(first.loadClientTasks(nric), second.loadClientTasks(nric));
+    }
+
+    @Test
+    void generate_smallBook_loadsWithoutErrors() throws IOException, FinanceProPlusException {
+        StorageManager storage = new StorageManager(firstRoot);
+        new DataGenerator(1L, 200, 10, 20, 3, 3).generate(storage);
+
+        PolicyList policies = new PolicyList();
+        policies.loadFromStorage(storage.loadFromFile("policy.txt"));
+        ClientList clients = new ClientList();
+        clients.loadFromStorage(storage.loadFromFile("client.txt"), policies);
+        ArchivedClientList archived = new ArchivedClientList();
+        archived.loadFromStorage(storage.loadFromFile("archived_clients.txt"), policies);
+        MeetingList meetings = new MeetingList();
+        meetings.loadFromStorage(storage.loadFromFile("meeting.txt"));
+        assertEquals(200, clients.size());
+        assertEquals(10, archived.size());
+
+        for (Client client : clients.getClientList()) {
+            String nric = client.getNric();
+            for (String line : storage.loadClientPolicies(nric)) {
+                clients.addPolicyToClientSilent("id/" + nric + " " + line, policies);
+            }
+            TaskList todos = client.getTodoList();
+            todos.loadFromStorage(storage.loadClientTasks(nric));
+            assertEquals(storage.loadClientTasks(nric).size(), todos.getSize());
+            assertEquals(storage.loadClientPolicies(nric).size(), client.getPolicyCount());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.duke.tools;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadHarnessTest {
+
+    @Test
+    void generateCommands_sameSeed_sameStream() {
+        List<LoadHarness.Step> first = new LoadHarness(7, 100, 200, 0, LoadHarness.defaultMix()).generateCommands();
+        List<LoadHarness.Step> second = new LoadHarness(7, 100, 200, 0, LoadHarness.defaultMix()).generateCommands();
+        assertEquals(200, first.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getInput(), second.get(i).getInput());
+        }
+    }
+
+    @Test
+    void generateCommands_updateOnly_addsContractBeforeUpdatingIt() {
+        Map<LoadHarness.Kind, Integer> mix = LoadHarness.parseMix("updatepolicy=1");
+        List<LoadHarness.Step> steps = new LoadHarness(1, 10, 5, 0, mix).generateCommands();
+        assertEquals(LoadHarness.Kind.ADDPOLICY, steps.get(0).getKind());
+        assertTrue(steps.get(0).getInput().startsWith("client addpolicy id/"));
+        for (LoadHarness.Step step : steps.subList(1, steps.size())) {
+            assertEquals(LoadHarness.Kind.UPDATEPOLICY, step.getKind());
+            assertTrue(step.getInput().startsWith("client updatepolicy id/"));
+        }
+    }
+
+    @Test
+    void parseMix_invalidEntries_throwException() {
+        assertThrows(IllegalArgumentException.class, () -> LoadHarness.parseMix("search"));
+        assertThrows(IllegalArgumentException.class, () -> LoadHarness.parseMix("browse=3"));
+        assertThrows(IllegalArgumentException.class, () -> LoadHarness.parseMix("search=-1"));
+        assertThrows(IllegalArgumentException.class,
+            () -> new LoadHarness(1, 10, 5, 0, LoadHarness.parseMix("search=0")));
+    }
+}
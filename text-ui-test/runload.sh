@@ -0,0 +1,15 @@
+#!/usr/bin/env bash
+
+# Replays a generated command stream against a synthetic book and prints throughput and latency percentiles.
+# Arguments are passed on, e.g. ./runload.sh 10000 2000 50 42 (clients, commands, rate per second, seed).
+
+# change to script directory
+cd "${0%/*}"
+
+cd ..
+if [ $# -eq 0 ]
+then
+    ./gradlew loadTest
+else
+    ./gradlew loadTest -PloadArgs="build/load $*"
+fi